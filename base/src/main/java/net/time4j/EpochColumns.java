@@ -0,0 +1,518 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EpochColumns.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.Optional;
+
+
+/**
+ * <p>Converts whole columns of epoch values to local calendar fields and back without creating
+ * any {@code Moment} or {@code PlainTimestamp} per row. </p>
+ *
+ * <p>Epoch values are always counted in POSIX scale (without leap seconds) since 1970-01-01T00:00Z.
+ * Every field array is optional and can be {@code null} if not needed, but must otherwise have at
+ * least the length of the epoch array. The timezone offset is only looked up again if the epoch
+ * value leaves the period of the last found offset so sorted or clustered input is handled
+ * in nearly constant time per row. </p>
+ *
+ * <p>Example for daily bucketing: </p>
+ *
+ * <pre>
+ *  long[] millis = ...;
+ *  int[] year = new int[millis.length];
+ *  int[] month = new int[millis.length];
+ *  int[] day = new int[millis.length];
+ *  EpochColumns.splitEpochMillis(
+ *      millis, Timezone.of(&quot;Europe/Berlin&quot;), year, month, day, null, null, null, null);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Konvertiert ganze Spalten von Epochenwerten in lokale Kalenderfelder und zur&uuml;ck, ohne
+ * pro Zeile ein {@code Moment}- oder {@code PlainTimestamp}-Objekt anzulegen. </p>
+ *
+ * <p>Epochenwerte werden immer in der POSIX-Skala (ohne Schaltsekunden) seit 1970-01-01T00:00Z
+ * gez&auml;hlt. Jedes Feld-Array ist optional und darf {@code null} sein, wenn es nicht gebraucht
+ * wird, mu&szlig; aber ansonsten mindestens die L&auml;nge des Epochen-Arrays haben. Der Offset der
+ * Zeitzone wird nur dann neu ermittelt, wenn der Epochenwert den G&uuml;ltigkeitszeitraum des zuletzt
+ * gefundenen Offsets verl&auml;&szlig;t, so da&szlig; sortierte oder geb&uuml;ndelte Eingaben pro Zeile
+ * in nahezu konstanter Zeit verarbeitet werden. </p>
+ *
+ * <p>Beispiel f&uuml;r eine Gruppierung nach Tagen: </p>
+ *
+ * <pre>
+ *  long[] millis = ...;
+ *  int[] year = new int[millis.length];
+ *  int[] month = new int[millis.length];
+ *  int[] day = new int[millis.length];
+ *  EpochColumns.splitEpochMillis(
+ *      millis, Timezone.of(&quot;Europe/Berlin&quot;), year, month, day, null, null, null, null);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class EpochColumns {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int UNIX_OFFSET_MJD = 40587;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone tz;
+    private final TransitionHistory history;
+
+    // period [start, end) of posix seconds with constant offset
+    private long start;
+    private long end;
+    private int offset;
+
+    // local seconds in [safeStart, safeEnd) are unambiguous and have the offset above
+    private long safeStart;
+    private long safeEnd;
+
+    // last converted local day
+    private long lastDay;
+    private long lastPackedDate;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EpochColumns(Timezone tz) {
+        super();
+
+        this.tz = tz;
+        this.history = (tz.isFixed() ? null : tz.getHistory());
+        this.start = 1;
+        this.end = 0; // empty period enforces first lookup
+        this.lastDay = Long.MIN_VALUE;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Splits given epoch seconds into local calendar fields of given timezone. </p>
+     *
+     * @param   epochSeconds    seconds since UNIX epoch in POSIX scale
+     * @param   tz              timezone for conversion to local fields
+     * @param   year            target column for proleptic iso year (optional)
+     * @param   month           target column for month (1-12, optional)
+     * @param   dayOfMonth      target column for day of month (optional)
+     * @param   hour            target column for hour of day (0-23, optional)
+     * @param   minute          target column for minute of hour (optional)
+     * @param   second          target column for second of minute (optional)
+     * @throws  IllegalArgumentException if any non-null column is shorter than the epoch array
+     *          or if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Zerlegt die angegebenen Epochensekunden in lokale Kalenderfelder der angegebenen Zeitzone. </p>
+     *
+     * @param   epochSeconds    seconds since UNIX epoch in POSIX scale
+     * @param   tz              timezone for conversion to local fields
+     * @param   year            target column for proleptic iso year (optional)
+     * @param   month           target column for month (1-12, optional)
+     * @param   dayOfMonth      target column for day of month (optional)
+     * @param   hour            target column for hour of day (0-23, optional)
+     * @param   minute          target column for minute of hour (optional)
+     * @param   second          target column for second of minute (optional)
+     * @throws  IllegalArgumentException if any non-null column is shorter than the epoch array
+     *          or if any value is out of range
+     */
+    public static void splitEpochSeconds(
+        long[] epochSeconds,
+        Timezone tz,
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second
+    ) {
+
+        int n = epochSeconds.length;
+        checkLength(n, year, month, dayOfMonth, hour, minute, second);
+        EpochColumns converter = new EpochColumns(tz);
+
+        for (int i = 0; i < n; i++) {
+            converter.split(epochSeconds[i], i, year, month, dayOfMonth, hour, minute, second);
+        }
+
+    }
+
+    /**
+     * <p>Splits given epoch milliseconds into local calendar fields of given timezone. </p>
+     *
+     * @param   epochMillis     milliseconds since UNIX epoch in POSIX scale
+     * @param   tz              timezone for conversion to local fields
+     * @param   year            target column for proleptic iso year (optional)
+     * @param   month           target column for month (1-12, optional)
+     * @param   dayOfMonth      target column for day of month (optional)
+     * @param   hour            target column for hour of day (0-23, optional)
+     * @param   minute          target column for minute of hour (optional)
+     * @param   second          target column for second of minute (optional)
+     * @param   millisecond     target column for millisecond of second (optional)
+     * @throws  IllegalArgumentException if any non-null column is shorter than the epoch array
+     *          or if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Zerlegt die angegebenen Epochenmillisekunden in lokale Kalenderfelder der angegebenen
+     * Zeitzone. </p>
+     *
+     * @param   epochMillis     milliseconds since UNIX epoch in POSIX scale
+     * @param   tz              timezone for conversion to local fields
+     * @param   year            target column for proleptic iso year (optional)
+     * @param   month           target column for month (1-12, optional)
+     * @param   dayOfMonth      target column for day of month (optional)
+     * @param   hour            target column for hour of day (0-23, optional)
+     * @param   minute          target column for minute of hour (optional)
+     * @param   second          target column for second of minute (optional)
+     * @param   millisecond     target column for millisecond of second (optional)
+     * @throws  IllegalArgumentException if any non-null column is shorter than the epoch array
+     *          or if any value is out of range
+     */
+    public static void splitEpochMillis(
+        long[] epochMillis,
+        Timezone tz,
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second,
+        int[] millisecond
+    ) {
+
+        int n = epochMillis.length;
+        checkLength(n, year, month, dayOfMonth, hour, minute, second, millisecond);
+        EpochColumns converter = new EpochColumns(tz);
+
+        for (int i = 0; i < n; i++) {
+            long millis = epochMillis[i];
+            converter.split(MathUtils.floorDivide(millis, 1000), i, year, month, dayOfMonth, hour, minute, second);
+            if (millisecond != null) {
+                millisecond[i] = MathUtils.floorModulo(millis, 1000);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Combines given local calendar fields of given timezone to epoch seconds. </p>
+     *
+     * <p>Local timestamps in a gap or overlap of the timezone are resolved by the
+     * {@link Timezone#getStrategy() transition strategy} of the timezone exactly as
+     * {@link PlainTimestamp#in(Timezone)} would do. </p>
+     *
+     * @param   year            source column for proleptic iso year
+     * @param   month           source column for month (1-12)
+     * @param   dayOfMonth      source column for day of month
+     * @param   hour            source column for hour of day (0-23, optional)
+     * @param   minute          source column for minute of hour (optional)
+     * @param   second          source column for second of minute (optional)
+     * @param   tz              timezone of local fields
+     * @param   epochSeconds    target column for seconds since UNIX epoch in POSIX scale
+     * @throws  IllegalArgumentException if any column is shorter than the target array
+     *          or if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Setzt die angegebenen lokalen Kalenderfelder der angegebenen Zeitzone zu Epochensekunden
+     * zusammen. </p>
+     *
+     * <p>Lokale Zeitstempel in einer L&uuml;cke oder &Uuml;berlappung der Zeitzone werden mit Hilfe
+     * der {@link Timezone#getStrategy() &Uuml;bergangsstrategie} der Zeitzone genauso wie in
+     * {@link PlainTimestamp#in(Timezone)} aufgel&ouml;st. </p>
+     *
+     * @param   year            source column for proleptic iso year
+     * @param   month           source column for month (1-12)
+     * @param   dayOfMonth      source column for day of month
+     * @param   hour            source column for hour of day (0-23, optional)
+     * @param   minute          source column for minute of hour (optional)
+     * @param   second          source column for second of minute (optional)
+     * @param   tz              timezone of local fields
+     * @param   epochSeconds    target column for seconds since UNIX epoch in POSIX scale
+     * @throws  IllegalArgumentException if any column is shorter than the target array
+     *          or if any value is out of range
+     */
+    public static void combineToEpochSeconds(
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second,
+        Timezone tz,
+        long[] epochSeconds
+    ) {
+
+        int n = epochSeconds.length;
+        checkDateColumns(n, year, month, dayOfMonth);
+        checkLength(n, hour, minute, second);
+        EpochColumns converter = new EpochColumns(tz);
+
+        for (int i = 0; i < n; i++) {
+            epochSeconds[i] = converter.combine(i, year, month, dayOfMonth, hour, minute, second);
+        }
+
+    }
+
+    /**
+     * <p>Combines given local calendar fields of given timezone to epoch milliseconds. </p>
+     *
+     * <p>Local timestamps in a gap or overlap of the timezone are resolved by the
+     * {@link Timezone#getStrategy() transition strategy} of the timezone exactly as
+     * {@link PlainTimestamp#in(Timezone)} would do. </p>
+     *
+     * @param   year            source column for proleptic iso year
+     * @param   month           source column for month (1-12)
+     * @param   dayOfMonth      source column for day of month
+     * @param   hour            source column for hour of day (0-23, optional)
+     * @param   minute          source column for minute of hour (optional)
+     * @param   second          source column for second of minute (optional)
+     * @param   millisecond     source column for millisecond of second (optional)
+     * @param   tz              timezone of local fields
+     * @param   epochMillis     target column for milliseconds since UNIX epoch in POSIX scale
+     * @throws  IllegalArgumentException if any column is shorter than the target array
+     *          or if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Setzt die angegebenen lokalen Kalenderfelder der angegebenen Zeitzone zu
+     * Epochenmillisekunden zusammen. </p>
+     *
+     * <p>Lokale Zeitstempel in einer L&uuml;cke oder &Uuml;berlappung der Zeitzone werden mit Hilfe
+     * der {@link Timezone#getStrategy() &Uuml;bergangsstrategie} der Zeitzone genauso wie in
+     * {@link PlainTimestamp#in(Timezone)} aufgel&ouml;st. </p>
+     *
+     * @param   year            source column for proleptic iso year
+     * @param   month           source column for month (1-12)
+     * @param   dayOfMonth      source column for day of month
+     * @param   hour            source column for hour of day (0-23, optional)
+     * @param   minute          source column for minute of hour (optional)
+     * @param   second          source column for second of minute (optional)
+     * @param   millisecond     source column for millisecond of second (optional)
+     * @param   tz              timezone of local fields
+     * @param   epochMillis     target column for milliseconds since UNIX epoch in POSIX scale
+     * @throws  IllegalArgumentException if any column is shorter than the target array
+     *          or if any value is out of range
+     */
+    public static void combineToEpochMillis(
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second,
+        int[] millisecond,
+        Timezone tz,
+        long[] epochMillis
+    ) {
+
+        int n = epochMillis.length;
+        checkDateColumns(n, year, month, dayOfMonth);
+        checkLength(n, hour, minute, second, millisecond);
+        EpochColumns converter = new EpochColumns(tz);
+
+        for (int i = 0; i < n; i++) {
+            long posix = converter.combine(i, year, month, dayOfMonth, hour, minute, second);
+            int millis = 0;
+            if (millisecond != null) {
+                millis = millisecond[i];
+                if ((millis < 0) || (millis > 999)) {
+                    throw new IllegalArgumentException("Millisecond out of range: " + millis);
+                }
+            }
+            epochMillis[i] = MathUtils.safeAdd(MathUtils.safeMultiply(posix, 1000), millis);
+        }
+
+    }
+
+    private void split(
+        long posix,
+        int index,
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second
+    ) {
+
+        if ((posix < this.start) || (posix >= this.end)) {
+            this.updatePeriod(posix);
+        }
+
+        long local = posix + this.offset;
+        long day = MathUtils.floorDivide(local, 86400);
+
+        if (day != this.lastDay) {
+            this.lastPackedDate = GregorianMath.toPackedDate(day + UNIX_OFFSET_MJD);
+            this.lastDay = day;
+        }
+
+        if (year != null) {
+            year[index] = GregorianMath.readYear(this.lastPackedDate);
+        }
+
+        if (month != null) {
+            month[index] = GregorianMath.readMonth(this.lastPackedDate);
+        }
+
+        if (dayOfMonth != null) {
+            dayOfMonth[index] = GregorianMath.readDayOfMonth(this.lastPackedDate);
+        }
+
+        int secondOfDay = (int) (local - day * 86400);
+
+        if (hour != null) {
+            hour[index] = secondOfDay / 3600;
+        }
+
+        if (minute != null) {
+            minute[index] = (secondOfDay / 60) % 60;
+        }
+
+        if (second != null) {
+            second[index] = secondOfDay % 60;
+        }
+
+    }
+
+    private long combine(
+        int index,
+        int[] year,
+        int[] month,
+        int[] dayOfMonth,
+        int[] hour,
+        int[] minute,
+        int[] second
+    ) {
+
+        int y = year[index];
+        int m = month[index];
+        int d = dayOfMonth[index];
+        int h = ((hour == null) ? 0 : hour[index]);
+        int min = ((minute == null) ? 0 : minute[index]);
+        int s = ((second == null) ? 0 : second[index]);
+
+        GregorianMath.checkDate(y, m, d);
+
+        if ((h < 0) || (h > 23) || (min < 0) || (min > 59) || (s < 0) || (s > 59)) {
+            throw new IllegalArgumentException(
+                "Time out of range: " + h + ":" + min + ":" + s + " (row=" + index + ")");
+        }
+
+        long local = (GregorianMath.toMJD(y, m, d) - UNIX_OFFSET_MJD) * 86400 + h * 3600 + min * 60 + s;
+
+        if ((local >= this.safeStart) && (local < this.safeEnd)) {
+            return local - this.offset;
+        }
+
+        long posix =
+            this.tz.getStrategy().resolve(PlainDate.of(y, m, d), PlainTime.of(h, min, s), this.tz);
+        this.updatePeriod(posix);
+        return posix;
+
+    }
+
+    private void updatePeriod(long posix) {
+
+        Moment ut = Moment.of(posix, TimeScale.POSIX);
+
+        if (this.history == null) {
+            this.offset = this.tz.getOffset(ut).getIntegralAmount();
+
+            if (this.tz.isFixed()) {
+                this.start = Long.MIN_VALUE;
+                this.end = Long.MAX_VALUE;
+                this.safeStart = Long.MIN_VALUE;
+                this.safeEnd = Long.MAX_VALUE;
+            } else { // no public history, so offset is only valid for given second
+                this.start = posix;
+                this.end = posix + 1;
+                this.safeStart = 1;
+                this.safeEnd = 0;
+            }
+            return;
+        }
+
+        ZonalTransition previous = this.history.getStartTransition(ut);
+        Optional<ZonalTransition> next = this.history.findNextTransition(ut);
+
+        if (previous == null) {
+            this.offset = this.history.getInitialOffset().getIntegralAmount();
+            this.start = Long.MIN_VALUE;
+            this.safeStart = Long.MIN_VALUE;
+        } else {
+            this.offset = previous.getTotalOffset();
+            this.start = previous.getPosixTime();
+            this.safeStart = this.start + Math.max(previous.getPreviousOffset(), this.offset);
+        }
+
+        if (next.isPresent()) {
+            this.end = next.get().getPosixTime();
+            this.safeEnd = this.end + Math.min(next.get().getTotalOffset(), this.offset);
+        } else {
+            this.end = Long.MAX_VALUE;
+            this.safeEnd = Long.MAX_VALUE;
+        }
+
+    }
+
+    private static void checkLength(
+        int n,
+        int[]... columns
+    ) {
+
+        for (int[] column : columns) {
+            if ((column != null) && (column.length < n)) {
+                throw new IllegalArgumentException(
+                    "Column too short, expected at least " + n + " but was: " + column.length);
+            }
+        }
+
+    }
+
+    private static void checkDateColumns(
+        int n,
+        int[] year,
+        int[] month,
+        int[] dayOfMonth
+    ) {
+
+        if ((year == null) || (month == null) || (dayOfMonth == null)) {
+            throw new NullPointerException("Missing date column.");
+        }
+
+        checkLength(n, year, month, dayOfMonth);
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (SystemClock.java) is part of project Time4J.
  *
@@ -31,6 +31,7 @@ import net.time4j.tz.Timezone;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -55,6 +56,8 @@ public final class SystemClock
 
     private static final TickProvider PROVIDER;
     private static final boolean MONOTON_MODE;
+    private static final long RESYNC_NANOS;
+    private static final long MAX_BACKWARD_NANOS = MRD;
 
     static {
         String platform = System.getProperty("java.vm.name");
@@ -73,6 +76,7 @@ public final class SystemClock
 
         PROVIDER = candidate;
         MONOTON_MODE = Boolean.getBoolean("net.time4j.systemclock.nanoTime");
+        RESYNC_NANOS = Math.max(1L, Long.getLong("net.time4j.systemclock.resyncMillis", 1000L)) * MIO;
     }
 
     /**
@@ -92,7 +96,7 @@ public final class SystemClock
      * f&uuml;r Zeitspr&uuml;nge und manuelle Verstellungen der Betriebssystem-Uhr empfindlich ist, so
      * da&szlig; keine Garantie f&uuml;r eine monoton ablaufende Zeit gegeben werden kann. </p>
      */
-    public static final SystemClock INSTANCE = new SystemClock(false, calibrate());
+    public static final SystemClock INSTANCE = new SystemClock(false, calibrate(), false);
 
     /**
      * <p>Monotonic clock based on the best available clock of the underlying operating system. </p>
@@ -118,23 +122,72 @@ public final class SystemClock
      * @see     TickProvider#getNanos()
      * @since   3.2/4.1
      */
-    public static final SystemClock MONOTONIC = new SystemClock(true, calibrate());
+    public static final SystemClock MONOTONIC = new SystemClock(true, calibrate(), false);
+
+    /**
+     * <p>High-resolution wall clock which extrapolates the time of the underlying operating system
+     * by the help of {@link System#nanoTime()}. </p>
+     *
+     * <p>This clock determines the offset between the wall clock of the operating system (read via
+     * {@code Clock.systemUTC()}) and {@code System.nanoTime()} and re-synchronizes this offset
+     * periodically, by default once per second. The period can be configured in milliseconds by the
+     * system property &quot;net.time4j.systemclock.resyncMillis&quot;. So this clock follows time
+     * adjustments of the operating system with a short delay but yields sub-millisecond resolution.
+     * The method {@link #currentTimeInNanos()} does not allocate any objects. </p>
+     *
+     * <p>The clock never goes backwards. If a re-synchronization would set it back (for example due
+     * to the limited resolution of the wall clock on Java 8) then the clock stands still until the
+     * wall clock has caught up. Only if the clock of the operating system is set back by more than
+     * one second then this clock will follow such a jump immediately. </p>
+     *
+     * @see     #currentTimeInNanos()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Hochaufl&ouml;sende Uhr, die die Zeit des Betriebssystems mit Hilfe von {@link System#nanoTime()}
+     * extrapoliert. </p>
+     *
+     * <p>Diese Uhr bestimmt den Abstand zwischen der Uhr des Betriebssystems (ermittelt mittels
+     * {@code Clock.systemUTC()}) und {@code System.nanoTime()} und synchronisiert diesen Abstand
+     * periodisch neu, standardm&auml;&szlig;ig einmal pro Sekunde. Die Periode kann in Millisekunden
+     * mit der System-Property &quot;net.time4j.systemclock.resyncMillis&quot; eingestellt werden.
+     * Diese Uhr folgt also Verstellungen der Betriebssystem-Uhr mit kurzer Verz&ouml;gerung, bietet
+     * aber eine Aufl&ouml;sung unterhalb von Millisekunden. Die Methode {@link #currentTimeInNanos()}
+     * erzeugt keine Objekte. </p>
+     *
+     * <p>Die Uhr l&auml;uft nie r&uuml;ckw&auml;rts. W&uuml;rde eine Synchronisierung sie
+     * zur&uuml;cksetzen (zum Beispiel wegen der begrenzten Aufl&ouml;sung der Betriebssystem-Uhr
+     * unter Java 8), bleibt die Uhr stehen, bis die Betriebssystem-Uhr aufgeholt hat. Nur wenn
+     * die Uhr des Betriebssystems um mehr als eine Sekunde zur&uuml;ckgestellt wird, folgt diese
+     * Uhr einem solchen Sprung sofort. </p>
+     *
+     * @see     #currentTimeInNanos()
+     * @since   5.6
+     */
+    public static final SystemClock HIGH_RESOLUTION = new SystemClock(false, 0L, true);
 
     //~ Instanzvariablen --------------------------------------------------
 
     private final boolean monotonic;
-    private final long offset;
+    private final long offset; // in high-resolution mode: adjustment relative to the wall clock
+    private final boolean highResolution;
+    private volatile Sync sync;
+    private final AtomicLong highWaterMark;
 
     //~ Konstruktoren -----------------------------------------------------
 
     private SystemClock(
         boolean monotonic,
-        long offset
+        long offset,
+        boolean highResolution
     ) {
         super();
 
         this.monotonic = monotonic;
         this.offset = offset;
+        this.highResolution = highResolution;
+        this.sync = (highResolution ? Sync.create(offset) : null);
+        this.highWaterMark = (highResolution ? new AtomicLong(Long.MIN_VALUE) : null);
 
     }
 
@@ -143,7 +196,10 @@ public final class SystemClock
     @Override
     public Moment currentTime() {
 
-        if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
+        if (this.highResolution) {
+            long nanos = this.posixNanos();
+            return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.POSIX);
+        } else if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
             long nanos = this.utcNanos();
             return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.UTC);
         } else {
@@ -170,10 +226,8 @@ public final class SystemClock
      */
     public long currentTimeInMillis() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            long nanos = this.utcNanos();
-            long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
+        if (this.highResolution || this.monotonic || MONOTON_MODE) {
+            return Math.floorDiv(this.currentTimeInNanos(), MIO);
         } else {
             return System.currentTimeMillis();
         }
@@ -210,12 +264,53 @@ public final class SystemClock
      */
     public long currentTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.highResolution || this.monotonic || MONOTON_MODE) {
+            return Math.floorDiv(this.currentTimeInNanos(), 1000);
+        } else {
+            return Math.multiplyExact(System.currentTimeMillis(), 1000);
+        }
+
+    }
+
+    /**
+     * <p>Yields the current time in nanoseconds elapsed since
+     * [1970-01-01T00:00:00,000000000Z]. </p>
+     *
+     * <p>This method does not allocate any objects. Only the clocks {@link #HIGH_RESOLUTION} and
+     * {@link #MONOTONIC} yield a real sub-millisecond resolution. If this clock is based only on
+     * {@link System#currentTimeMillis()} then this method will just multiply the millisecond value
+     * by factor {@code 1000000}. The result overflows in the year 2262. </p>
+     *
+     * @return  count of nanoseconds since UNIX epoch without leap seconds
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #currentTimeInMicros()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle seit [1970-01-01T00:00:00,000000000Z] verstrichene
+     * Zeit in Nanosekunden. </p>
+     *
+     * <p>Diese Methode erzeugt keine Objekte. Nur die Uhren {@link #HIGH_RESOLUTION} und
+     * {@link #MONOTONIC} liefern eine echte Aufl&ouml;sung unterhalb von Millisekunden. Basiert
+     * diese Uhr nur auf {@link System#currentTimeMillis()}, wird diese Methode lediglich den
+     * Millisekundenwert mit dem Faktor {@code 1000000} multiplizieren. Das Ergebnis l&auml;uft
+     * im Jahr 2262 &uuml;ber. </p>
+     *
+     * @return  count of nanoseconds since UNIX epoch without leap seconds
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #currentTimeInMicros()
+     * @since   5.6
+     */
+    public long currentTimeInNanos() {
+
+        if (this.highResolution) {
+            return this.posixNanos();
+        } else if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
+            return Math.multiplyExact(secs, MRD) + Math.floorMod(nanos, MRD);
         } else {
-            return Math.multiplyExact(System.currentTimeMillis(), 1000);
+            return Math.multiplyExact(System.currentTimeMillis(), MIO);
         }
 
     }
@@ -238,8 +333,8 @@ public final class SystemClock
      */
     public long realTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            return Math.floorDiv(this.utcNanos(), 1000);
+        if (this.highResolution || this.monotonic || MONOTON_MODE) {
+            return Math.floorDiv(this.realTimeInNanos(), 1000);
         } else {
             long millis = System.currentTimeMillis();
             long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
@@ -248,6 +343,42 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Yields the current time in nanoseconds elapsed since
+     * UTC epoch [1972-01-01T00:00:00,000000000Z]. </p>
+     *
+     * <p>This method does not allocate any objects. </p>
+     *
+     * @return  count of nanoseconds since UTC epoch including leap seconds
+     * @see     #currentTimeInNanos()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle seit [1972-01-01T00:00:00,000000000Z] verstrichene
+     * UTC-Zeit in Nanosekunden. </p>
+     *
+     * <p>Diese Methode erzeugt keine Objekte. </p>
+     *
+     * @return  count of nanoseconds since UTC epoch including leap seconds
+     * @see     #currentTimeInNanos()
+     * @since   5.6
+     */
+    public long realTimeInNanos() {
+
+        if (this.highResolution) {
+            long nanos = this.posixNanos();
+            long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(nanos, MRD));
+            return Math.multiplyExact(utc, MRD) + Math.floorMod(nanos, MRD);
+        } else if (this.monotonic || MONOTON_MODE) {
+            return this.utcNanos();
+        } else {
+            long millis = System.currentTimeMillis();
+            long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
+            return Math.multiplyExact(utc, MRD) + Math.floorMod(millis, 1000) * MIO;
+        }
+
+    }
+
     /**
      * <p>Creates a local clock in the platform timezone. </p>
      *
@@ -402,9 +533,9 @@ public final class SystemClock
     /**
      * <p>Recalibrates this instance and yields a new copy. </p>
      *
-     * <p>This method is only relevant if this clock is operated in monotonic mode. It is strongly advised
-     * not to recalibrate during or near a leap second. Please also note that this method might cause jumps
-     * in time - even backwards. </p>
+     * <p>This method is only relevant if this clock is operated in monotonic mode or in high-resolution
+     * mode. It is strongly advised not to recalibrate during or near a leap second. Please also note that
+     * this method might cause jumps in time - even backwards. </p>
      *
      * @return  new and recalibrated copy of this instance
      * @see     #MONOTONIC
@@ -413,9 +544,9 @@ public final class SystemClock
     /*[deutsch]
      * <p>Eicht diese Instanz und liefert eine neue Kopie. </p>
      *
-     * <p>Diese Methode ist nur relevant, wenn diese Uhr im monotonen Modus l&auml;uft. Es wird dringend
-     * angeraten, nicht w&auml;hrend oder nahe einer Schaltsekunde zu eichen. Achtung: Diese Methode kann
-     * Zeitspr&uuml;nge verursachen - eventuell sogar r&uuml;ckw&auml;rts. </p>
+     * <p>Diese Methode ist nur relevant, wenn diese Uhr im monotonen oder im hochaufl&ouml;senden Modus
+     * l&auml;uft. Es wird dringend angeraten, nicht w&auml;hrend oder nahe einer Schaltsekunde zu eichen.
+     * Achtung: Diese Methode kann Zeitspr&uuml;nge verursachen - eventuell sogar r&uuml;ckw&auml;rts. </p>
      *
      * @return  new and recalibrated copy of this instance
      * @see     #MONOTONIC
@@ -423,15 +554,17 @@ public final class SystemClock
      */
     public SystemClock recalibrated() {
 
-        return new SystemClock(this.monotonic, calibrate());
+        return new SystemClock(this.monotonic, (this.highResolution ? 0L : calibrate()), this.highResolution);
 
     }
 
     /**
      * <p>Synchronizes this instance with given time source and yields a new copy. </p>
      *
-     * <p>This method is only relevant if this clock is operated in monotonic mode. It is strongly advised
-     * not to recalibrate during or near a leap second. Please also note that this method might cause jumps
+     * <p>This method is only relevant if this clock is operated in monotonic mode or in high-resolution
+     * mode. In high-resolution mode, the difference between given time source and the wall clock of the
+     * operating system is kept during all later re-synchronizations. It is strongly advised not to
+     * recalibrate during or near a leap second. Please also note that this method might cause jumps
      * in time - even backwards. </p>
      *
      * @param   clock       another clock which this instance should be synchronized with
@@ -442,9 +575,11 @@ public final class SystemClock
     /*[deutsch]
      * <p>Synchronisiert diese Instanz mit der angegebenen Zeitquelle und liefert eine neue Kopie. </p>
      *
-     * <p>Diese Methode ist nur relevant, wenn diese Uhr im monotonen Modus l&auml;uft. Es wird dringend
-     * angeraten, nicht w&auml;hrend oder nahe einer Schaltsekunde zu eichen. Achtung: Diese Methode kann
-     * Zeitspr&uuml;nge verursachen - eventuell sogar r&uuml;ckw&auml;rts. </p>
+     * <p>Diese Methode ist nur relevant, wenn diese Uhr im monotonen oder im hochaufl&ouml;senden Modus
+     * l&auml;uft. Im hochaufl&ouml;senden Modus bleibt der Abstand zwischen der angegebenen Zeitquelle
+     * und der Uhr des Betriebssystems bei allen sp&auml;teren Synchronisierungen erhalten. Es wird
+     * dringend angeraten, nicht w&auml;hrend oder nahe einer Schaltsekunde zu eichen. Achtung: Diese
+     * Methode kann Zeitspr&uuml;nge verursachen - eventuell sogar r&uuml;ckw&auml;rts. </p>
      *
      * @param   clock       another clock which this instance should be synchronized with
      * @return  synchronized copy of this instance
@@ -454,13 +589,20 @@ public final class SystemClock
     public SystemClock synchronizedWith(TimeSource<?> clock) {
 
         Moment time = Moment.from(clock.currentTime());
+
+        if (this.highResolution) {
+            long target = Math.multiplyExact(time.getPosixTime(), MRD) + time.getNanosecond();
+            long wall = Math.subtractExact(this.posixNanos(), this.offset);
+            return new SystemClock(this.monotonic, Math.subtractExact(target, wall), true);
+        }
+
         long compare = (MONOTON_MODE ? System.nanoTime() : PROVIDER.getNanos());
 
         long utc = time.getElapsedTime(TimeScale.UTC);
         long instantNanos = Math.multiplyExact(utc, MRD) + time.getNanosecond(TimeScale.UTC);
         long newOffset = Math.subtractExact(instantNanos, compare);
 
-        return new SystemClock(this.monotonic, newOffset);
+        return new SystemClock(this.monotonic, newOffset, this.highResolution);
 
     }
 
@@ -486,8 +628,78 @@ public final class SystemClock
 
     }
 
+    private long posixNanos() {
+
+        long nanos = System.nanoTime();
+        Sync s = this.sync;
+
+        if (nanos - s.deadline >= 0) {
+            Sync old = s;
+            s = Sync.create(this.offset);
+            this.sync = s; // benign race: concurrent threads might store equivalent instances
+            nanos = System.nanoTime();
+
+            if (old.offset - s.offset > MAX_BACKWARD_NANOS) {
+                this.highWaterMark.set(nanos + s.offset); // follow a real time jump backwards
+            }
+        }
+
+        // the high water mark prevents backward steps caused by re-synchronizations
+        long candidate = nanos + s.offset;
+        long last = this.highWaterMark.get();
+
+        while (candidate > last) {
+            if (this.highWaterMark.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+            last = this.highWaterMark.get();
+        }
+
+        return last;
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
+    private static class Sync {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long offset;
+        private final long deadline;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Sync(
+            long offset,
+            long deadline
+        ) {
+            super();
+
+            this.offset = offset;
+            this.deadline = deadline;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Sync create(long adjustment) {
+
+            // the midpoint of two counter readings reduces the error caused by reading the wall clock
+            long before = System.nanoTime();
+            Instant instant = Clock.systemUTC().instant();
+            long after = System.nanoTime();
+            long counter = before + (after - before) / 2;
+
+            // offset = [instant] - [counter] + [adjustment]
+            long instantNanos = Math.multiplyExact(instant.getEpochSecond(), MRD) + instant.getNano();
+            long offset = Math.addExact(Math.subtractExact(instantNanos, counter), adjustment);
+            return new Sync(offset, after + RESYNC_NANOS);
+
+        }
+
+    }
+
     private static class StdTickProvider
         implements TickProvider {
 
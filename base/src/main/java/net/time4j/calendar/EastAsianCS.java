@@ -30,6 +30,8 @@ import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 
 /**
  * The heart of Chinese calendar.
@@ -47,51 +49,44 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     private static final long EPOCH_CHINESE = PlainDate.of(-2636, 2, 15).getDaysSinceEpochUTC();
 
+    // elapsed years of first and last supported lunisolar year (cycle 72/year 22 - cycle 94/year 56)
+    private static final int MIN_ELAPSED_YEARS = 71 * 60 + 22;
+    private static final int MAX_ELAPSED_YEARS = 93 * 60 + 56;
+
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    //~ Instanzvariablen --------------------------------------------------
+
+    // lazily filled table of month starts per lunisolar year, indexed by elapsed years
+    private final AtomicReferenceArray<YearData> yearTable =
+        new AtomicReferenceArray<>(MAX_ELAPSED_YEARS - MIN_ELAPSED_YEARS + 1);
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
     public final D transform(long utcDays) {
 
-        long s1 = this.winterOnOrBefore(utcDays);
-        long s2 = this.winterOnOrBefore(s1 + 370);
-        long m12 = this.newMoonOnOrAfter(s1 + 1);
-        long nextM11 = this.newMoonBefore(s2 + 1);
-        long m = this.newMoonBefore(utcDays + 1);
-        boolean leapYearInSui = (lunations(m12, nextM11) == 12);
-
-        long me = lunations(m12, m); // might be negative
+        long elapsedYears = (long) Math.floor((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR) + 1;
+        YearData data = this.getYearData(elapsedYears);
 
-        if (leapYearInSui && this.hasLeapMonth(m12, m)) {
-            me--;
+        if ((data != null) && (utcDays < data.getNewYear())) {
+            elapsedYears--;
+            data = this.getYearData(elapsedYears);
+        } else if ((data != null) && (utcDays >= data.getNextNewYear())) {
+            elapsedYears++;
+            data = this.getYearData(elapsedYears);
         }
 
-        int month = (int) Math.floorMod(me, 12);
-
-        if (month == 0) {
-            month = 12;
+        if (data == null) {
+            return this.transformAstronomically(utcDays);
         }
 
-        long elapsedYears =
-            (long) Math.floor(1.5 - (month / 12.0) + ((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR));
-
+        int index = data.getMonthIndex(utcDays);
         int cycle = (int) Math.floorDiv(elapsedYears - 1, 60) + 1;
-        int yearOfCycle = (int) Math.floorMod(elapsedYears, 60);
-
-        if (yearOfCycle == 0) {
-            yearOfCycle = 60;
-        }
-
-        int dayOfMonth = (int) (utcDays - m + 1);
-        EastAsianMonth eam = EastAsianMonth.valueOf(month);
-
-        if (leapYearInSui && this.hasNoMajorSolarTerm(m) && !this.hasLeapMonth(m12, this.newMoonBefore(m))) {
-            eam = eam.withLeap();
-        }
-
-        return this.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+        int yearOfCycle = (int) Math.floorMod(elapsedYears - 1, 60) + 1;
+        int dayOfMonth = (int) (utcDays - data.starts[index] + 1);
+        return this.create(cycle, yearOfCycle, data.getMonth(index), dayOfMonth, utcDays);
 
     }
 
@@ -128,6 +123,49 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     abstract int[] getLeapMonths();
 
+    // the original astronomical conversion, also used for building the year table
+    final D transformAstronomically(long utcDays) {
+
+        long s1 = this.winterOnOrBefore(utcDays);
+        long s2 = this.winterOnOrBefore(s1 + 370);
+        long m12 = this.newMoonOnOrAfter(s1 + 1);
+        long nextM11 = this.newMoonBefore(s2 + 1);
+        long m = this.newMoonBefore(utcDays + 1);
+        boolean leapYearInSui = (lunations(m12, nextM11) == 12);
+
+        long me = lunations(m12, m); // might be negative
+
+        if (leapYearInSui && this.hasLeapMonth(m12, m)) {
+            me--;
+        }
+
+        int month = (int) Math.floorMod(me, 12);
+
+        if (month == 0) {
+            month = 12;
+        }
+
+        long elapsedYears =
+            (long) Math.floor(1.5 - (month / 12.0) + ((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR));
+
+        int cycle = (int) Math.floorDiv(elapsedYears - 1, 60) + 1;
+        int yearOfCycle = (int) Math.floorMod(elapsedYears, 60);
+
+        if (yearOfCycle == 0) {
+            yearOfCycle = 60;
+        }
+
+        int dayOfMonth = (int) (utcDays - m + 1);
+        EastAsianMonth eam = EastAsianMonth.valueOf(month);
+
+        if (leapYearInSui && this.hasNoMajorSolarTerm(m) && !this.hasLeapMonth(m12, this.newMoonBefore(m))) {
+            eam = eam.withLeap();
+        }
+
+        return this.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+
+    }
+
     // number of leap month or zero if no leap year
     final int getLeapMonth(
         int cycle,
@@ -186,9 +224,7 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         ) {
             return false;
         } else if (dayOfMonth == 30) { // the only case when astronomical validation is required
-            long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
-            long nextNewMoon = this.newMoonOnOrAfter(monthStart + 1);
-            return (nextNewMoon - monthStart == 30);
+            return (this.lengthOfMonth(cycle, yearOfCycle, month) == 30);
         }
 
         return true;
@@ -199,9 +235,30 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int cycle,
         int yearOfCycle
     ) {
-        long midYear =
-            (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
-        return this.newYearOnOrBefore(midYear); // starts with new moon on or after winter solstice
+        YearData data = this.getYearData((cycle - 1) * 60 + yearOfCycle);
+
+        if (data == null) {
+            return this.newYearAstronomically((cycle - 1) * 60 + yearOfCycle);
+        }
+
+        return data.getNewYear();
+    }
+
+    // length of given month in days
+    final int lengthOfMonth(
+        int cycle,
+        int yearOfCycle,
+        EastAsianMonth month
+    ) {
+        YearData data = this.getYearData((cycle - 1) * 60 + yearOfCycle);
+
+        if (data == null) {
+            long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
+            return (int) (this.newMoonOnOrAfter(monthStart + 1) - monthStart);
+        }
+
+        int index = data.getMonthIndex(month);
+        return (int) (data.starts[index + 1] - data.starts[index]);
     }
 
     // index of major solar term (used in test cases only)
@@ -281,16 +338,72 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
-        long newYear = this.newYear(cycle, yearOfCycle);
+        YearData data = this.getYearData((cycle - 1) * 60 + yearOfCycle);
+
+        if (data != null) {
+            return data.starts[data.getMonthIndex(month)];
+        }
+
+        long newYear = this.newYearAstronomically((cycle - 1) * 60 + yearOfCycle);
         long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
-        if (month.equals(this.transform(approxStartOfMonth).getMonth())) {
+        if (month.equals(this.transformAstronomically(approxStartOfMonth).getMonth())) {
             return approxStartOfMonth;
         } else {
             return this.newMoonOnOrAfter(approxStartOfMonth + 1);
         }
     }
 
+    // result in utc-days
+    private long newYearAstronomically(long elapsedYears) {
+        long midYear = (long) Math.floor(EPOCH_CHINESE + (elapsedYears - 0.5) * MEAN_TROPICAL_YEAR);
+        return this.newYearOnOrBefore(midYear); // starts with new moon on or after winter solstice
+    }
+
+    // null if out of supported range
+    private YearData getYearData(long elapsedYears) {
+        if ((elapsedYears < MIN_ELAPSED_YEARS) || (elapsedYears > MAX_ELAPSED_YEARS)) {
+            return null;
+        }
+
+        int index = (int) (elapsedYears - MIN_ELAPSED_YEARS);
+        YearData data = this.yearTable.get(index);
+
+        if (data == null) {
+            data = this.createYearData(elapsedYears);
+            this.yearTable.compareAndSet(index, null, data); // concurrent creation yields equal data
+        }
+
+        return data;
+    }
+
+    // determines all month starts of given lunisolar year and the position of any leap month
+    private YearData createYearData(long elapsedYears) {
+        long newYear = this.newYearAstronomically(elapsedYears);
+        long nextNewYear = this.newYearAstronomically(elapsedYears + 1);
+        long[] starts = new long[14];
+        int count = 0;
+        int leapIndex = 0;
+
+        for (long m = newYear; m < nextNewYear; m = this.newMoonOnOrAfter(m + 1)) {
+            starts[count++] = m;
+        }
+
+        if (count == 13) {
+            for (int i = 1; i < 13; i++) {
+                if (this.transformAstronomically(starts[i]).getMonth().isLeap()) {
+                    leapIndex = i;
+                    break;
+                }
+            }
+        }
+
+        starts[count] = nextNewYear;
+        long[] result = new long[count + 1];
+        System.arraycopy(starts, 0, result, 0, count + 1);
+        return new YearData(result, leapIndex);
+    }
+
     // search for winter solstice
     private long winterOnOrBefore(long utcDays) {
         ZonalOffset offset = this.getOffset(utcDays);
@@ -305,4 +418,78 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         return d.getDaysSinceEpochUTC();
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class YearData {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        // utc-days of all month starts followed by the start of next year
+        private final long[] starts;
+
+        // index of leap month (zero if there is no leap month)
+        private final int leapIndex;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearData(
+            long[] starts,
+            int leapIndex
+        ) {
+            super();
+
+            this.starts = starts;
+            this.leapIndex = leapIndex;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        long getNewYear() {
+            return this.starts[0];
+        }
+
+        long getNextNewYear() {
+            return this.starts[this.starts.length - 1];
+        }
+
+        // expects utcDays in this year
+        int getMonthIndex(long utcDays) {
+            int low = 0;
+            int high = this.starts.length - 2;
+
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (this.starts[middle] <= utcDays) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return low;
+        }
+
+        int getMonthIndex(EastAsianMonth month) {
+            int index = month.getNumber() - 1;
+
+            if ((this.leapIndex > 0) && (month.isLeap() || (index >= this.leapIndex))) {
+                index++;
+            }
+
+            return index;
+        }
+
+        EastAsianMonth getMonth(int index) {
+            if ((this.leapIndex == 0) || (index < this.leapIndex)) {
+                return EastAsianMonth.valueOf(index + 1);
+            } else if (index == this.leapIndex) {
+                return EastAsianMonth.valueOf(index).withLeap();
+            } else {
+                return EastAsianMonth.valueOf(index);
+            }
+        }
+
+    }
+
 }
@@ -234,8 +234,7 @@ public abstract class EastAsianCalendar<U, D extends EastAsianCalendar<U, D>>
      */
     public int lengthOfMonth() {
 
-        long nextNewMoon = this.getCalendarSystem().newMoonOnOrAfter(this.utcDays + 1);
-        return (int) (this.dayOfMonth + nextNewMoon - this.utcDays - 1);
+        return this.getCalendarSystem().lengthOfMonth(this.cycle, this.yearOfCycle, this.month);
 
     }
 
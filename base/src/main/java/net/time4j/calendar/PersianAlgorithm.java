@@ -33,6 +33,10 @@ import net.time4j.format.Attributes;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 
 /**
  * <p>Enumeration of different calculation methods for the Persian calendar. </p>
@@ -377,9 +381,7 @@ public enum PersianAlgorithm {
             if (pYear < 1 || pYear > this.getMaxPersianYear()) {
                 throw new IllegalArgumentException("Out of range: " + pYear);
             }
-            PersianCalendar nextYear = new PersianCalendar(pYear + 1, 1, 1);
-            PersianCalendar thisYear = new PersianCalendar(pYear, 1, 1);
-            return (this.transform(nextYear, offset) - this.transform(thisYear, offset) == 366L);
+            return (equinoxAsUTCDays(pYear + 1, offset) - equinoxAsUTCDays(pYear, offset) == 366L);
         }
         @Override
         PersianCalendar transform(
@@ -394,12 +396,10 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - equinoxAsUTCDays(pyear, offset);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - equinoxAsUTCDays(pyear, offset);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -421,22 +421,10 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = equinoxAsUTCDays(pyear, offset);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
-        private PlainDate vernalEquinox(
-            int pyear,
-            ZonalOffset offset
-        ) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
-            if (tsp.getHour() >= 12) {
-                return tsp.getCalendarDate().plus(1, CalendarUnit.DAYS);
-            } else {
-                return tsp.getCalendarDate();
-            }
-        }
     };
 
     static final ZonalOffset STD_OFFSET = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30);
@@ -445,6 +433,11 @@ public enum PersianAlgorithm {
     private static final long REFERENCE_ZERO_KHAYYAM = 493363L;
     private static final long START_OF_BIRASHK_CYCLE = -319872L;
 
+    // lazily filled tables of astronomical new year days (utc-days) indexed by persian year, one per offset
+    private static final int MAX_EQUINOX_TABLES = 16;
+    private static final int NO_EQUINOX = Integer.MIN_VALUE;
+    private static final ConcurrentMap<ZonalOffset, int[]> EQUINOX_TABLES = new ConcurrentHashMap<>();
+
     private static final AttributeKey<PersianAlgorithm> ATTRIBUTE =
         Attributes.createKey("PERSIAN_ALGORITHM", PersianAlgorithm.class);
 
@@ -585,4 +578,56 @@ public enum PersianAlgorithm {
 
     }
 
+    // start of persian year in utc-days for the astronomical algorithm
+    private static long equinoxAsUTCDays(
+        int pyear,
+        ZonalOffset offset
+    ) {
+
+        int[] table = EQUINOX_TABLES.get(offset);
+
+        if (table == null) {
+            if (EQUINOX_TABLES.size() >= MAX_EQUINOX_TABLES) {
+                return computeEquinox(pyear, offset); // too many different offsets, no caching
+            }
+            int[] newTable = new int[ASTRONOMICAL.getMaxPersianYear() + 2];
+            Arrays.fill(newTable, NO_EQUINOX);
+            table = EQUINOX_TABLES.putIfAbsent(offset, newTable);
+            if (table == null) {
+                table = newTable;
+            }
+        }
+
+        if ((pyear < 0) || (pyear >= table.length)) {
+            return computeEquinox(pyear, offset);
+        }
+
+        int utcDays = table[pyear];
+
+        if (utcDays == NO_EQUINOX) { // racy but benign because the computed value is always the same
+            utcDays = (int) computeEquinox(pyear, offset);
+            table[pyear] = utcDays;
+        }
+
+        return utcDays;
+
+    }
+
+    private static long computeEquinox(
+        int pyear,
+        ZonalOffset offset
+    ) {
+
+        PlainTimestamp tsp =
+            AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
+        PlainDate date = tsp.getCalendarDate();
+
+        if (tsp.getHour() >= 12) {
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+
+        return date.getDaysSinceEpochUTC();
+
+    }
+
 }
@@ -0,0 +1,365 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CachedClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SystemClock;
+import net.time4j.base.TimeSource;
+import net.time4j.tz.Timezone;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * <p>Coarse clock which caches the current time and lets a background thread update it
+ * with a configurable resolution. </p>
+ *
+ * <p>Designed for hot loops like request logging, metrics or expiry checks which query the
+ * current time very often but do not need a better accuracy than the resolution of this clock.
+ * Every query is just a volatile read of immutable values which are computed once per tick,
+ * including the local date and timestamp in the associated timezone. This clock can be used
+ * wherever a {@code TimeSource} is expected, for example: </p>
+ *
+ * <pre>
+ *     CachedClock clock = CachedClock.start(1, TimeUnit.MILLISECONDS);
+ *     Moment now = clock.currentTime();
+ *     PlainDate today = clock.today();
+ *     ZonalClock zonal = clock.inZonalView(&quot;Europe/Berlin&quot;);
+ *     PrettyTime pretty = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+ *     ChronoFormatter&lt;PlainTimestamp&gt; f =
+ *         ChronoFormatter.ofTimestampPattern(&quot;HH:mm&quot;, PatternType.CLDR, Locale.ROOT)
+ *             .withDefaultSupplier(PlainDate.COMPONENT, clock::today);
+ *     ...
+ *     clock.close(); // stops the background thread
+ * </pre>
+ *
+ * <p>The background thread is a daemon thread. After closing, all queries will be delegated
+ * directly to the underlying time source. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Grobe Uhr, die die aktuelle Zeit zwischenspeichert und von einem Hintergrund-Thread
+ * mit einstellbarer Aufl&ouml;sung aktualisieren l&auml;&szlig;t. </p>
+ *
+ * <p>Gedacht f&uuml;r hei&szlig;e Schleifen wie Protokollierung von Anfragen, Metriken oder
+ * Verfallspr&uuml;fungen, die die aktuelle Zeit sehr oft abfragen, aber keine bessere Genauigkeit
+ * als die Aufl&ouml;sung dieser Uhr brauchen. Jede Abfrage ist nur ein volatiler Lesezugriff auf
+ * unver&auml;nderliche Werte, die einmal pro Takt berechnet werden, einschlie&szlig;lich des
+ * lokalen Datums und Zeitstempels in der assoziierten Zeitzone. Diese Uhr kann &uuml;berall
+ * verwendet werden, wo eine {@code TimeSource} erwartet wird, zum Beispiel: </p>
+ *
+ * <pre>
+ *     CachedClock clock = CachedClock.start(1, TimeUnit.MILLISECONDS);
+ *     Moment now = clock.currentTime();
+ *     PlainDate today = clock.today();
+ *     ZonalClock zonal = clock.inZonalView(&quot;Europe/Berlin&quot;);
+ *     PrettyTime pretty = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+ *     ChronoFormatter&lt;PlainTimestamp&gt; f =
+ *         ChronoFormatter.ofTimestampPattern(&quot;HH:mm&quot;, PatternType.CLDR, Locale.ROOT)
+ *             .withDefaultSupplier(PlainDate.COMPONENT, clock::today);
+ *     ...
+ *     clock.close(); // stoppt den Hintergrund-Thread
+ * </pre>
+ *
+ * <p>Der Hintergrund-Thread ist ein D&auml;mon-Thread. Nach dem Schlie&szlig;en werden alle
+ * Abfragen direkt an die zugrundeliegende Zeitquelle weitergeleitet. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+public final class CachedClock
+    extends AbstractClock
+    implements AutoCloseable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeSource<?> source;
+    private final Timezone timezone;
+    private final long resolution;
+    private final Thread ticker;
+    private volatile Tick tick;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CachedClock(
+        TimeSource<?> source,
+        Timezone timezone,
+        long resolution
+    ) {
+        super();
+
+        this.source = source;
+        this.timezone = timezone;
+        this.resolution = resolution;
+        this.tick = this.createTick();
+        this.ticker = new Thread(this::run, "Time4J-CachedClock");
+        this.ticker.setDaemon(true);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Starts a cached clock around the standard system clock in the system timezone. </p>
+     *
+     * @param   resolution  the update period of the cached time
+     * @param   unit        the time unit of the update period
+     * @return  new started clock
+     * @throws  IllegalArgumentException if the resolution is shorter than one millisecond
+     * @see     SystemClock#INSTANCE
+     * @see     Timezone#ofSystem()
+     */
+    /*[deutsch]
+     * <p>Startet eine zwischenspeichernde Uhr, die auf der Standard-Systemuhr in der
+     * System-Zeitzone basiert. </p>
+     *
+     * @param   resolution  the update period of the cached time
+     * @param   unit        the time unit of the update period
+     * @return  new started clock
+     * @throws  IllegalArgumentException if the resolution is shorter than one millisecond
+     * @see     SystemClock#INSTANCE
+     * @see     Timezone#ofSystem()
+     */
+    public static CachedClock start(
+        long resolution,
+        TimeUnit unit
+    ) {
+
+        return CachedClock.start(SystemClock.INSTANCE, Timezone.ofSystem(), resolution, unit);
+
+    }
+
+    /**
+     * <p>Starts a cached clock around given time source in given timezone. </p>
+     *
+     * @param   source      the underlying time source
+     * @param   tz          the timezone for local dates and timestamps
+     * @param   resolution  the update period of the cached time
+     * @param   unit        the time unit of the update period
+     * @return  new started clock
+     * @throws  IllegalArgumentException if the resolution is shorter than one millisecond
+     */
+    /*[deutsch]
+     * <p>Startet eine zwischenspeichernde Uhr, die auf der angegebenen Zeitquelle in der
+     * angegebenen Zeitzone basiert. </p>
+     *
+     * @param   source      the underlying time source
+     * @param   tz          the timezone for local dates and timestamps
+     * @param   resolution  the update period of the cached time
+     * @param   unit        the time unit of the update period
+     * @return  new started clock
+     * @throws  IllegalArgumentException if the resolution is shorter than one millisecond
+     */
+    public static CachedClock start(
+        TimeSource<?> source,
+        Timezone tz,
+        long resolution,
+        TimeUnit unit
+    ) {
+
+        if (source == null) {
+            throw new NullPointerException("Missing time source.");
+        } else if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        }
+
+        long nanos = unit.toNanos(resolution);
+
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+            throw new IllegalArgumentException("Resolution must be at least one millisecond: " + nanos + " ns");
+        }
+
+        CachedClock clock = new CachedClock(source, tz, nanos);
+        clock.ticker.start();
+        return clock;
+
+    }
+
+    /**
+     * <p>Yields the cached current time. </p>
+     *
+     * @return  current time which is at most one resolution period old
+     */
+    /*[deutsch]
+     * <p>Liefert die zwischengespeicherte aktuelle Zeit. </p>
+     *
+     * @return  current time which is at most one resolution period old
+     */
+    @Override
+    public Moment currentTime() {
+
+        Tick t = this.tick;
+        return ((t == null) ? Moment.from(this.source.currentTime()) : t.moment);
+
+    }
+
+    /**
+     * <p>Yields the cached current date in the associated timezone. </p>
+     *
+     * @return  calendar date representing today
+     */
+    /*[deutsch]
+     * <p>Liefert das zwischengespeicherte aktuelle Datum in der assoziierten Zeitzone. </p>
+     *
+     * @return  calendar date representing today
+     */
+    public PlainDate today() {
+
+        return this.now().getCalendarDate();
+
+    }
+
+    /**
+     * <p>Yields the cached current local timestamp in the associated timezone. </p>
+     *
+     * @return  current local timestamp
+     */
+    /*[deutsch]
+     * <p>Liefert den zwischengespeicherten aktuellen lokalen Zeitstempel in der
+     * assoziierten Zeitzone. </p>
+     *
+     * @return  current local timestamp
+     */
+    public PlainTimestamp now() {
+
+        Tick t = this.tick;
+        return ((t == null) ? this.createTick().timestamp : t.timestamp);
+
+    }
+
+    /**
+     * <p>Yields the timezone used for local dates and timestamps. </p>
+     *
+     * @return  Timezone
+     */
+    /*[deutsch]
+     * <p>Liefert die Zeitzone f&uuml;r lokale Datums- und Zeitangaben. </p>
+     *
+     * @return  Timezone
+     */
+    public Timezone getTimezone() {
+
+        return this.timezone;
+
+    }
+
+    /**
+     * <p>Yields the update period of this clock. </p>
+     *
+     * @param   unit    the time unit of the result
+     * @return  resolution in given unit (maybe truncated)
+     */
+    /*[deutsch]
+     * <p>Liefert die Aktualisierungsperiode dieser Uhr. </p>
+     *
+     * @param   unit    the time unit of the result
+     * @return  resolution in given unit (maybe truncated)
+     */
+    public long getResolution(TimeUnit unit) {
+
+        return unit.convert(this.resolution, TimeUnit.NANOSECONDS);
+
+    }
+
+    /**
+     * <p>Stops the background thread. </p>
+     *
+     * <p>Afterwards all queries will be delegated directly to the underlying time source. </p>
+     */
+    /*[deutsch]
+     * <p>Stoppt den Hintergrund-Thread. </p>
+     *
+     * <p>Danach werden alle Abfragen direkt an die zugrundeliegende Zeitquelle weitergeleitet. </p>
+     */
+    @Override
+    public void close() {
+
+        this.tick = null;
+        this.ticker.interrupt();
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CachedClock[source=" + this.source
+            + ",timezone=" + this.timezone.getID().canonical()
+            + ",resolution=" + this.resolution + "ns]";
+
+    }
+
+    private void run() {
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(this, this.resolution);
+                Tick next = this.createTick();
+                if (this.tick == null) {
+                    break; // closed
+                }
+                this.tick = next;
+            }
+        } finally {
+            this.tick = null; // closed or failed: fallback to direct queries of the time source
+        }
+
+    }
+
+    private Tick createTick() {
+
+        Moment moment = Moment.from(this.source.currentTime());
+        return new Tick(moment, moment.toZonalTimestamp(this.timezone.getOffset(moment)));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Tick {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Moment moment;
+        private final PlainTimestamp timestamp;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Tick(
+            Moment moment,
+            PlainTimestamp timestamp
+        ) {
+            super();
+
+            this.moment = moment;
+            this.timestamp = timestamp;
+
+        }
+
+    }
+
+}
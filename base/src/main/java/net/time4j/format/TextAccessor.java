@@ -26,7 +26,9 @@ import net.time4j.engine.AttributeQuery;
 import java.text.ParsePosition;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -56,6 +58,7 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile ParseIndex index = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -298,6 +301,18 @@ public final class TextAccessor {
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
+
+        if (!partialCompare && (start < end)) {
+            ParseIndex pi = this.index;
+            if ((pi == null) || (pi.valueType != valueType)) {
+                pi = new ParseIndex(this.getTexts(enums), valueType);
+                this.index = pi; // racy but harmless
+            }
+            if (pi.isUsable(smart)) {
+                return this.parseIndexed(parseable, status, enums, pi, caseInsensitive, smart);
+            }
+        }
+
         String alt = "";
 
         int maxEq = 0;
@@ -379,6 +394,92 @@ public final class TextAccessor {
 
     }
 
+    // only used if no partial compare is wanted and all text forms have at least two chars
+    private <V extends Enum<V>> V parseIndexed(
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        ParseIndex pi,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        int start = status.getIndex();
+        int end = parseable.length();
+        char c = parseable.charAt(start);
+
+        if (smart && (c == PROTECTED_SPACE)) {
+            c = ' ';
+        }
+
+        // candidates in ascending order, same first char modulo case folding
+        int[] upper = pi.byUpperCase.get(Character.toUpperCase(c));
+        int[] lower = (caseInsensitive ? pi.byLowerCase.get(Character.toLowerCase(c)) : null);
+        int u = 0;
+        int l = 0;
+        int nu = ((upper == null) ? 0 : upper.length);
+        int nl = ((lower == null) ? 0 : lower.length);
+
+        while ((u < nu) || (l < nl)) {
+            int i;
+
+            if ((l >= nl) || ((u < nu) && (upper[u] <= lower[l]))) {
+                i = upper[u++];
+                if ((l < nl) && (lower[l] == i)) {
+                    l++;
+                }
+            } else {
+                i = lower[l++];
+            }
+
+            String s = pi.texts[i];
+            int n = s.length();
+
+            if (start + n > end) {
+                continue;
+            }
+
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                char ch = parseable.charAt(start + j);
+                char t = s.charAt(j);
+
+                if (smart) {
+                    if (ch == PROTECTED_SPACE) {
+                        ch = ' ';
+                    }
+                    if (t == PROTECTED_SPACE) {
+                        t = ' ';
+                    }
+                }
+
+                eq = ((ch == t) || (caseInsensitive && this.compareIgnoreCase(ch, t)));
+            }
+
+            if (eq) {
+                status.setIndex(start + n);
+                return enums[i];
+            }
+        }
+
+        status.setErrorIndex(start);
+        return null;
+
+    }
+
+    private String[] getTexts(Enum<?>[] enums) {
+
+        String[] texts = new String[enums.length];
+
+        for (int i = 0; i < enums.length; i++) {
+            texts[i] = this.print(enums[i]);
+        }
+
+        return texts;
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
@@ -401,4 +502,89 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Index der Textformen nach erstem Zeichen (in Gro&szlig;- und Kleinschreibung). </p>
+     */
+    private static class ParseIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String[] texts;
+        private final Class<?> valueType;
+        private final Map<Character, int[]> byUpperCase;
+        private final Map<Character, int[]> byLowerCase;
+        private final boolean usable;
+        private final boolean usableIfSmart;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ParseIndex(
+            String[] texts,
+            Class<?> valueType
+        ) {
+            super();
+
+            boolean ok = true;
+            boolean okIfSmart = true;
+            Map<Character, int[]> byUpperCase = new HashMap<>();
+            Map<Character, int[]> byLowerCase = new HashMap<>();
+
+            for (int i = 0; i < texts.length; i++) {
+                String s = texts[i];
+                int n = s.length();
+                if (n < 2) {
+                    ok = false; // special handling of single chars in general algorithm
+                    break;
+                } else if ((n == 5) && (s.charAt(4) == '.')) {
+                    okIfSmart = false; // "Sept." versus "Sep."
+                }
+                char c = s.charAt(0);
+                if ((c == PROTECTED_SPACE) || (c == ' ')) {
+                    ok = false;
+                    break;
+                }
+                add(byUpperCase, Character.toUpperCase(c), i);
+                add(byLowerCase, Character.toLowerCase(c), i);
+            }
+
+            this.texts = texts;
+            this.valueType = valueType;
+            this.byUpperCase = byUpperCase;
+            this.byLowerCase = byLowerCase;
+            this.usable = ok;
+            this.usableIfSmart = ok && okIfSmart;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean isUsable(boolean smart) {
+
+            return (smart ? this.usableIfSmart : this.usable);
+
+        }
+
+        private static void add(
+            Map<Character, int[]> map,
+            char key,
+            int index
+        ) {
+
+            Character c = Character.valueOf(key);
+            int[] old = map.get(c);
+
+            if (old == null) {
+                map.put(c, new int[] {index});
+            } else {
+                int[] indices = Arrays.copyOf(old, old.length + 1);
+                indices[old.length] = index;
+                map.put(c, indices);
+            }
+
+        }
+
+    }
+
 }
@@ -86,6 +86,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -93,6 +94,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
@@ -243,6 +247,7 @@ public final class ChronoFormatter<T>
     // serves for optimization
     private final boolean hasOptionals;
     private final boolean hasOrMarkers;
+    private final int maxLevel;
     private final boolean needsExtensions;
     private final int countOfElements;
     private final Leniency leniency;
@@ -287,6 +292,7 @@ public final class ChronoFormatter<T>
         boolean ne = false;
         boolean ix = true;
         int co = 0;
+        int ml = 0;
 
         for (FormatStep step : steps) {
             if (step.isNewOrBlockStarted()) {
@@ -298,6 +304,7 @@ public final class ChronoFormatter<T>
             if (!ho && (step.getLevel() > 0)) {
                 ho = true;
             }
+            ml = Math.max(ml, step.getLevel());
             ChronoElement<?> element = step.getProcessor().getElement();
             if (element != null) {
                 co++;
@@ -313,6 +320,7 @@ public final class ChronoFormatter<T>
         this.fracproc = fp;
         this.hasOptionals = ho;
         this.hasOrMarkers = hm;
+        this.maxLevel = ml;
         this.needsExtensions = ne;
         this.countOfElements = co;
         this.indexable = ix;
@@ -364,6 +372,7 @@ public final class ChronoFormatter<T>
         this.fracproc = old.fracproc;
         this.hasOptionals = old.hasOptionals;
         this.hasOrMarkers = old.hasOrMarkers;
+        this.maxLevel = old.maxLevel;
         this.needsExtensions = (old.needsExtensions || (history != null));
         this.countOfElements = old.countOfElements;
 
@@ -467,6 +476,7 @@ public final class ChronoFormatter<T>
         this.fracproc = formatter.fracproc;
         this.hasOptionals = formatter.hasOptionals;
         this.hasOrMarkers = formatter.hasOrMarkers;
+        this.maxLevel = formatter.maxLevel;
         this.needsExtensions = formatter.needsExtensions;
         this.countOfElements = formatter.countOfElements;
         this.trailing = formatter.trailing;
@@ -769,6 +779,80 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Prints given chronological entity as formatted text and appends
+     * the text directly to given buffer. </p>
+     *
+     * <p>In contrast to other print methods, this method does not determine
+     * any element positions and uses the global attributes of this formatter
+     * so it can avoid the creation of intermediate objects as far as possible.
+     * Recommended for formatting many values in a loop where the same buffer
+     * can be reused. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Textausgabe und h&auml;ngt sie direkt an den angegebenen Puffer an. </p>
+     *
+     * <p>Im Unterschied zu anderen Formatierungsmethoden ermittelt diese Methode keine
+     * Elementpositionen und verwendet die globalen Attribute dieses Formatierers, so
+     * da&szlig; die Erzeugung von Zwischenobjekten weitgehend vermieden werden kann.
+     * Empfohlen, wenn viele Werte in einer Schleife formatiert werden und derselbe Puffer
+     * wiederverwendet werden kann. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @since   5.6
+     */
+    public void printTo(
+        T formattable,
+        StringBuilder buffer
+    ) {
+
+        try {
+            this.printTo(formattable, (Appendable) buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as formatted text and appends
+     * the text directly to given buffer (for example a {@code CharBuffer}). </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     #printTo(Object, StringBuilder)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Textausgabe und h&auml;ngt sie direkt an den angegebenen Puffer
+     * an (zum Beispiel einen {@code CharBuffer}). </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @see     #printTo(Object, StringBuilder)
+     * @since   5.6
+     */
+    public void printTo(
+        T formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        ChronoDisplay display = this.display(formattable, this.globalAttributes);
+        this.print(display, buffer, this.globalAttributes, false);
+
+    }
+
     // also directly called by CustomizedProcessor and StyleProcessor
     Set<ElementPosition> print(
         ChronoDisplay formattable,
@@ -792,15 +876,14 @@ public final class ChronoFormatter<T>
         }
 
         if (this.hasOrMarkers) {
-            Deque<StringBuilder> collectorStack = new LinkedList<>();
-            StringBuilder buf = new StringBuilder(len << 2);
-            collectorStack.push(buf);
-
-            Deque<Set<ElementPosition>> positionStack = null;
-            if (withPositions) {
-                positionStack = new LinkedList<>();
-                positionStack.push(positions);
-            }
+            // single collector with rollback marks instead of copying buffers per optional section
+            StringBuilder buf = (
+                (!withPositions && (buffer instanceof StringBuilder))
+                ? (StringBuilder) buffer
+                : new StringBuilder(len << 2));
+            int[] marks = new int[this.maxLevel + 1];
+            int[] sizes = (withPositions ? new int[this.maxLevel + 1] : null);
+            marks[0] = buf.length();
 
             int previous = 0;
             int current = 0;
@@ -808,37 +891,13 @@ public final class ChronoFormatter<T>
             while (index < len) {
                 FormatStep step = this.steps.get(index);
                 current = step.getLevel();
-                int level = current;
 
-                // Start einer optionalen Sektion: Stack erweitern
-                while (level > previous) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(collectorStack.peek());
-                    collectorStack.push(sb);
-                    if (withPositions) {
-                        positions = new LinkedHashSet<>();
-                        positions.addAll(positionStack.peek());
-                        positionStack.push(positions);
-                    }
-                    level--;
-                }
-
-                // Ende einer optionalen Sektion: Werte im Stack sichern
-                while (level < previous) {
-                    buf = collectorStack.pop();
-                    collectorStack.pop();
-                    collectorStack.push(buf);
+                // Start einer optionalen Sektion: Rücksprungmarken setzen
+                for (int level = previous + 1; level <= current; level++) {
+                    marks[level] = buf.length();
                     if (withPositions) {
-                        positions = positionStack.pop();
-                        positionStack.pop();
-                        positionStack.push(positions);
+                        sizes[level] = positions.size();
                     }
-                    level++;
-                }
-
-                buf = collectorStack.peek();
-                if (withPositions) {
-                    positions = positionStack.peek();
                 }
 
                 RuntimeException re = null;
@@ -866,20 +925,10 @@ public final class ChronoFormatter<T>
                     }
 
                     if ((last > index) || step.isNewOrBlockStarted()) {
-                        // wenn gefunden, zum nächsten oder-Block springen
-                        collectorStack.pop();
-                        StringBuilder sb = new StringBuilder();
-                        if (!collectorStack.isEmpty()) {
-                            sb.append(collectorStack.peek());
-                        }
-                        collectorStack.push(sb);
+                        // wenn gefunden, aktuelle Sektion zurücksetzen und zum nächsten oder-Block springen
+                        buf.setLength(marks[current]);
                         if (withPositions) {
-                            positionStack.pop();
-                            Set<ElementPosition> ep = new LinkedHashSet<>();
-                            if (!positionStack.isEmpty()) {
-                                ep.addAll(positionStack.peek());
-                            }
-                            positionStack.push(ep);
+                            truncate(positions, sizes[current]);
                         }
                         index = last;
                     } else if (re == null) {
@@ -896,14 +945,8 @@ public final class ChronoFormatter<T>
                 index++;
             }
 
-            // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
-            buf = collectorStack.peek();
-            collectorStack.clear();
-            buffer.append(buf);
-
-            if (withPositions) {
-                positions = positionStack.peek();
-                positionStack.clear();
+            if (buf != buffer) {
+                buffer.append(buf);
             }
         } else {
             try {
@@ -933,7 +976,44 @@ public final class ChronoFormatter<T>
     @Override
     public T parse(CharSequence text) throws ParseException {
 
-        ParseLog status = new ParseLog();
+        return this.parseFully(text, new ParseLog());
+
+    }
+
+    /**
+     * <p>Creates a new reusable parse context which can be used for parsing many texts in
+     * a single thread. </p>
+     *
+     * <p>The context reuses its parse log and the internal table of parsed element values
+     * for all parse processes. This avoids most allocations in bulk parsing apart from
+     * the result objects, at least for formatters without optional sections. </p>
+     *
+     * @return  new parse context bound to this formatter
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen wiederverwendbaren Parse-Kontext, mit dem viele Texte in einem
+     * einzelnen Thread interpretiert werden k&ouml;nnen. </p>
+     *
+     * <p>Der Kontext verwendet sein Parse-Log und die interne Tabelle der interpretierten
+     * Elementwerte f&uuml;r alle Parse-Vorg&auml;nge wieder. Das vermeidet au&szlig;er
+     * den Ergebnisobjekten die meisten Speicheranforderungen beim Massen-Parsen,
+     * jedenfalls f&uuml;r Formatierer ohne optionale Abschnitte. </p>
+     *
+     * @return  new parse context bound to this formatter
+     * @since   5.6
+     */
+    public ParseContext<T> newParseContext() {
+
+        return new ParseContext<>(this);
+
+    }
+
+    private T parseFully(
+        CharSequence text,
+        ParseLog status
+    ) throws ParseException {
+
         T result = this.parse(text, status);
 
         if (result == null) {
@@ -2229,14 +2309,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainDate.axis(), null);
 
     }
 
@@ -2268,14 +2341,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainTime.axis(), null);
 
     }
 
@@ -2307,14 +2373,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, PlainTimestamp.axis(), null);
 
     }
 
@@ -2351,14 +2410,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return ofCachedPattern(pattern, type, locale, Moment.axis(), null);
 
     }
 
@@ -2399,15 +2451,12 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build().withTimezone(tzid);
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
+        if (tzid == null) {
+            throw new NullPointerException("Missing timezone id.");
         }
 
+        return ofCachedPattern(pattern, type, locale, Moment.axis(), tzid);
+
     }
 
     /**
@@ -2475,15 +2524,47 @@ public final class ChronoFormatter<T>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        addPattern(builder, pattern, type);
+        return ofCachedPattern(pattern, type, locale, chronology, null);
+
+    }
+
+    private static <T> ChronoFormatter<T> ofCachedPattern(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        // zone-bound formatters are not cached in order to respect any refresh of timezone data
+        Cache.Key key = null;
+        ChronoFormatter<T> formatter = null;
+
+        if (Cache.isEnabled()) {
+            key = new Cache.Key(pattern, type, locale, chronology);
+            formatter = cast(Cache.lookup(key));
+        }
 
         try {
-            return builder.build();
+            if (formatter == null) {
+                Builder<T> builder = new Builder<>(chronology, locale);
+                addPattern(builder, pattern, type);
+                formatter = builder.build();
+
+                if (key != null) {
+                    Cache.store(key, formatter);
+                }
+            }
+
+            if (tzid != null) {
+                formatter = formatter.withTimezone(tzid);
+            }
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
 
+        return formatter;
+
     }
 
     /**
@@ -3108,6 +3189,25 @@ public final class ChronoFormatter<T>
 
     }
 
+    // removes all elements added after given count of elements (in insertion order)
+    private static void truncate(
+        Set<ElementPosition> positions,
+        int size
+    ) {
+
+        if (positions.size() > size) {
+            Iterator<ElementPosition> iter = positions.iterator();
+            for (int i = 0; i < size; i++) {
+                iter.next();
+            }
+            while (iter.hasNext()) {
+                iter.next();
+                iter.remove();
+            }
+        }
+
+    }
+
     private String format0(ChronoDisplay display) {
 
         StringBuilder buffer = new StringBuilder(this.steps.size() * 8);
@@ -3681,7 +3781,12 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = status.pollValues();
+
+        if ((values == null) || (values.isIndexable() != this.indexable)) {
+            values = new ParsedValues(countOfElements, this.indexable);
+        }
+
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -7432,6 +7537,487 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    /**
+     * <p>Reusable context for parsing many texts with the same formatter in one thread. </p>
+     *
+     * <p>The parse log and the parsed raw values are recycled for every parse process so they
+     * are only valid until the next call. Example: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm:ss&quot;, PatternType.CLDR, Locale.ROOT);
+     *  ChronoFormatter.ParseContext&lt;PlainTimestamp&gt; ctx = f.newParseContext();
+     *
+     *  for (String line : lines) {
+     *      PlainTimestamp tsp = ctx.parse(line, 0);
+     *      if (tsp == null) {
+     *          System.err.println(ctx.getLog().getErrorMessage());
+     *      }
+     *  }
+     * </pre>
+     *
+     * @param       <T> generic type of chronological entity
+     * @author      Meno Hochschild
+     * @see         ChronoFormatter#newParseContext()
+     * @since       5.6
+     * @doctags.concurrency {mutable}
+     */
+    /*[deutsch]
+     * <p>Wiederverwendbarer Kontext zum Interpretieren vieler Texte mit dem gleichen Formatierer
+     * in einem Thread. </p>
+     *
+     * <p>Das Parse-Log und die interpretierten Rohwerte werden f&uuml;r jeden Parse-Vorgang
+     * wiederverwendet und sind daher nur bis zum n&auml;chsten Aufruf g&uuml;ltig. Beispiel: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm:ss&quot;, PatternType.CLDR, Locale.ROOT);
+     *  ChronoFormatter.ParseContext&lt;PlainTimestamp&gt; ctx = f.newParseContext();
+     *
+     *  for (String line : lines) {
+     *      PlainTimestamp tsp = ctx.parse(line, 0);
+     *      if (tsp == null) {
+     *          System.err.println(ctx.getLog().getErrorMessage());
+     *      }
+     *  }
+     * </pre>
+     *
+     * @param       <T> generic type of chronological entity
+     * @author      Meno Hochschild
+     * @see         ChronoFormatter#newParseContext()
+     * @since       5.6
+     * @doctags.concurrency {mutable}
+     */
+    public static final class ParseContext<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoFormatter<T> formatter;
+        private final ParseLog status;
+        private final ParsedValues values;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ParseContext(ChronoFormatter<T> formatter) {
+            super();
+
+            this.formatter = formatter;
+            this.status = new ParseLog();
+            this.values = new ParsedValues(formatter.countOfElements, formatter.indexable);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Interpretes given text completely like {@link ChronoFormatter#parse(CharSequence)}. </p>
+         *
+         * @param   text        text to be parsed
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the text is empty
+         * @throws  ParseException if the text is not parseable
+         */
+        /*[deutsch]
+         * <p>Interpretiert den angegebenen Text vollst&auml;ndig wie
+         * {@link ChronoFormatter#parse(CharSequence)}. </p>
+         *
+         * @param   text        text to be parsed
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the text is empty
+         * @throws  ParseException if the text is not parseable
+         */
+        public T parse(CharSequence text) throws ParseException {
+
+            this.prepare(0);
+            return this.formatter.parseFully(text, this.status);
+
+        }
+
+        /**
+         * <p>Interpretes given text starting at given position without throwing
+         * a {@code ParseException}. </p>
+         *
+         * <p>Details about the end position or any error can be queried by {@link #getLog()}. </p>
+         *
+         * @param   text        text to be parsed
+         * @param   start       start position
+         * @return  parse result or {@code null} if parsing does not work
+         * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+         */
+        /*[deutsch]
+         * <p>Interpretiert den angegebenen Text ab der angegebenen Position, ohne eine
+         * {@code ParseException} zu werfen. </p>
+         *
+         * <p>Details zur Endposition oder zu einem Fehler k&ouml;nnen mit {@link #getLog()}
+         * abgefragt werden. </p>
+         *
+         * @param   text        text to be parsed
+         * @param   start       start position
+         * @return  parse result or {@code null} if parsing does not work
+         * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+         */
+        public T parse(
+            CharSequence text,
+            int start
+        ) {
+
+            this.prepare(start);
+            return this.formatter.parse(text, this.status);
+
+        }
+
+        /**
+         * <p>Yields the recycled parse log of the last parse process. </p>
+         *
+         * @return  ParseLog (only valid until next parse process)
+         */
+        /*[deutsch]
+         * <p>Liefert das wiederverwendete Parse-Log des letzten Parse-Vorgangs. </p>
+         *
+         * @return  ParseLog (only valid until next parse process)
+         */
+        public ParseLog getLog() {
+
+            return this.status;
+
+        }
+
+        private void prepare(int start) {
+
+            this.status.reset();
+            this.status.setPosition(start);
+            this.values.clear();
+            this.status.offerValues(this.values);
+
+        }
+
+    }
+
+    /**
+     * <p>Offers some static methods for the configuration of the global cache of pattern-based
+     * formatters. </p>
+     *
+     * <p>All factory methods like {@link ChronoFormatter#ofPattern(String, PatternType, Locale, Chronology)},
+     * {@link ChronoFormatter#ofDatePattern(String, PatternType, Locale)} or
+     * {@link ChronoFormatter#ofMomentPattern(String, PatternType, Locale, TZID)} look up this cache
+     * before they compile the pattern. The key consists of pattern, pattern type, locale and chronology.
+     * An optional timezone is applied to the cached formatter after every lookup so that a refresh of
+     * the timezone data is always respected. The default maximum size is 256 and can be changed by the
+     * system property &quot;net.time4j.format.pattern.cache.size&quot;. </p>
+     *
+     * <p>If the cache exceeds its maximum size then it evicts formatters following the clock algorithm
+     * (second chance): Formatters which were looked up since the last visit of the clock hand are kept
+     * and only lose their mark, unused formatters are removed. </p>
+     *
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zum Konfigurieren des globalen Puffers von musterbasierten
+     * Formatierern. </p>
+     *
+     * <p>Alle Fabrikmethoden wie {@link ChronoFormatter#ofPattern(String, PatternType, Locale, Chronology)},
+     * {@link ChronoFormatter#ofDatePattern(String, PatternType, Locale)} oder
+     * {@link ChronoFormatter#ofMomentPattern(String, PatternType, Locale, TZID)} schauen zuerst in
+     * diesem Puffer nach, bevor sie das Muster kompilieren. Der Schl&uuml;ssel besteht aus Muster,
+     * Mustertyp, Sprache und Chronologie. Eine optionale Zeitzone wird nach jedem Nachschlagen auf
+     * den gepufferten Formatierer angewandt, damit eine Aktualisierung der Zeitzonendaten immer
+     * beachtet wird. Die Standardmaximalgr&ouml;&szlig;e ist 256 und kann mit der System-Property
+     * &quot;net.time4j.format.pattern.cache.size&quot; ge&auml;ndert werden. </p>
+     *
+     * <p>Wenn der Puffer seine Maximalgr&ouml;&szlig;e &uuml;berschreitet, entfernt er Formatierer
+     * nach dem Uhr-Algorithmus (zweite Chance): Formatierer, die seit dem letzten Besuch des
+     * Uhrzeigers nachgeschlagen wurden, bleiben erhalten und verlieren nur ihre Markierung,
+     * unbenutzte Formatierer werden entfernt. </p>
+     *
+     * @since   5.6
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ConcurrentMap<Key, Entry> FORMATTERS = new ConcurrentHashMap<>();
+        private static final LongAdder HITS = new LongAdder();
+        private static final LongAdder MISSES = new LongAdder();
+        private static final LongAdder EVICTIONS = new LongAdder();
+
+        private static volatile boolean active = true;
+        private static volatile int maximumSize = Integer.getInteger("net.time4j.format.pattern.cache.size", 256);
+        private static Iterator<Map.Entry<Key, Entry>> hand = null; // guarded by class lock
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Removes all cached formatters. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle gepufferten Formatierer. </p>
+         */
+        public static void clear() {
+
+            FORMATTERS.clear();
+
+        }
+
+        /**
+         * <p>Aktivates or deactivates the cache. </p>
+         *
+         * <p>The cache is active by default unless the maximum size is zero. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        /*[deutsch]
+         * <p>Aktiviert oder deaktiviert den Puffer. </p>
+         *
+         * <p>Standardm&auml;&szlig;ig ist der Puffer aktiv, es sei denn, die Maximalgr&ouml;&szlig;e
+         * ist null. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        public static void setCacheActive(boolean active) {
+
+            Cache.active = active;
+
+            if (!active) {
+                FORMATTERS.clear();
+            }
+
+        }
+
+        /**
+         * <p>Updates the maximum count of cached formatters. </p>
+         *
+         * @param   maximumSize     new maximum size of cache ({@code 0} disables caching)
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        /*[deutsch]
+         * <p>Konfiguriert die maximale Anzahl der gepufferten Formatierer neu. </p>
+         *
+         * @param   maximumSize     new maximum size of cache ({@code 0} disables caching)
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        public static void setMaximumSize(int maximumSize) {
+
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Negative formatter cache size: " + maximumSize);
+            }
+
+            Cache.maximumSize = maximumSize;
+            trim();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached formatters. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gepufferten Formatierer. </p>
+         *
+         * @return  int
+         */
+        public static int size() {
+
+            return FORMATTERS.size();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which could use a cached formatter. </p>
+         *
+         * @return  count of cache hits
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Fabrikaufrufe, die einen gepufferten Formatierer verwenden konnten. </p>
+         *
+         * @return  count of cache hits
+         */
+        public static long getHitCount() {
+
+            return HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which had to compile the pattern while the cache was active. </p>
+         *
+         * @return  count of cache misses
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Fabrikaufrufe, die das Muster bei aktivem Puffer kompilieren mu&szlig;ten. </p>
+         *
+         * @return  count of cache misses
+         */
+        public static long getMissCount() {
+
+            return MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of formatters which were removed because the cache exceeded its
+         * maximum size. </p>
+         *
+         * @return  count of evicted formatters
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Formatierer, die entfernt wurden, weil der Puffer seine
+         * Maximalgr&ouml;&szlig;e &uuml;berschritten hat. </p>
+         *
+         * @return  count of evicted formatters
+         */
+        public static long getEvictionCount() {
+
+            return EVICTIONS.sum();
+
+        }
+
+        static boolean isEnabled() {
+
+            return (active && (maximumSize > 0));
+
+        }
+
+        static ChronoFormatter<?> lookup(Key key) {
+
+            Entry entry = FORMATTERS.get(key);
+
+            if (entry == null) {
+                MISSES.increment();
+                return null;
+            }
+
+            HITS.increment();
+            entry.referenced = true;
+            return entry.formatter;
+
+        }
+
+        static void store(
+            Key key,
+            ChronoFormatter<?> formatter
+        ) {
+
+            if (maximumSize > 0) {
+                FORMATTERS.put(key, new Entry(formatter));
+                trim();
+            }
+
+        }
+
+        // clock algorithm: the hand gives referenced entries a second chance and evicts the others
+        private static synchronized void trim() {
+
+            int passes = 0;
+
+            while (FORMATTERS.size() > maximumSize) {
+                if ((hand == null) || !hand.hasNext()) {
+                    if (++passes > 2) {
+                        break; // concurrent modifications, next store will trim again
+                    }
+                    hand = FORMATTERS.entrySet().iterator();
+                    continue;
+                }
+
+                Map.Entry<Key, Entry> e = hand.next();
+                Entry entry = e.getValue();
+
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else if (FORMATTERS.remove(e.getKey(), entry)) {
+                    EVICTIONS.increment();
+                }
+            }
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        private static final class Key {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final String pattern;
+            private final PatternType type;
+            private final Locale locale;
+            private final Chronology<?> chronology;
+            private final int hash;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            Key(
+                String pattern,
+                PatternType type,
+                Locale locale,
+                Chronology<?> chronology
+            ) {
+                super();
+
+                this.pattern = pattern;
+                this.type = type;
+                this.locale = locale;
+                this.chronology = chronology;
+                this.hash = pattern.hashCode() * 31 + locale.hashCode() * 17 + type.hashCode();
+
+            }
+
+            //~ Methoden --------------------------------------------------
+
+            @Override
+            public boolean equals(Object obj) {
+
+                if (this == obj) {
+                    return true;
+                } else if (obj instanceof Key) {
+                    Key that = (Key) obj;
+                    return (
+                        this.pattern.equals(that.pattern)
+                        && (this.type == that.type)
+                        && this.locale.equals(that.locale)
+                        && (this.chronology == that.chronology)
+                    );
+                } else {
+                    return false;
+                }
+
+            }
+
+            @Override
+            public int hashCode() {
+
+                return this.hash;
+
+            }
+
+        }
+
+        private static final class Entry {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final ChronoFormatter<?> formatter;
+            private volatile boolean referenced;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            Entry(ChronoFormatter<?> formatter) {
+                super();
+
+                this.formatter = formatter;
+                this.referenced = false;
+
+            }
+
+        }
+
+    }
+
     /**
      * @serial  exclude
      */
@@ -0,0 +1,576 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Iso8601Codec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
+
+
+/**
+ * <p>Handcodierte Interpretation und Ausgabe der g&auml;ngigen ISO-8601-Formate mit
+ * vierstelligem Jahr ohne Umweg &uuml;ber {@code ChronoFormatter}. </p>
+ *
+ * <p>Alle Methoden akzeptieren nur die &uuml;blichen Formen und liefern im Zweifelsfall
+ * {@code null} oder {@code false}, so da&szlig; der Aufrufer auf die allgemeinen
+ * Formatierer zur&uuml;ckgreifen kann, die dann auch aussagekr&auml;ftige
+ * Fehlermeldungen erzeugen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class Iso8601Codec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int UNIX_OFFSET_MJD = 40587;
+    private static final int[] POWERS = {
+        100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final CharSequence text;
+    private final boolean extended;
+    private int pos;
+
+    // parsed fields
+    private int year;
+    private int month;
+    private int dayOfMonth;
+    private int hour;
+    private int minute;
+    private int second;
+    private int nano;
+    private int offset;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private Iso8601Codec(
+        CharSequence text,
+        int start
+    ) {
+        super();
+
+        this.text = text;
+        this.extended = isExtended(text, start);
+        this.pos = start;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Interpretiert ein Kalenderdatum im Format &quot;uuuu-MM-dd&quot; oder &quot;uuuuMMdd&quot;. </p>
+     *
+     * @param   text    text to be parsed completely
+     * @return  PlainDate or {@code null} if the text has an unusual form
+     */
+    static PlainDate parseDate(CharSequence text) {
+
+        Iso8601Codec codec = new Iso8601Codec(text, 0);
+
+        if (codec.readDate() && codec.isAtEnd()) {
+            return PlainDate.of(codec.year, codec.month, codec.dayOfMonth);
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Interpretiert einen Zeitstempel im Format &quot;uuuu-MM-ddTHH:mm[:ss[,SSSSSSSSS]]&quot;
+     * oder &quot;uuuuMMddTHHmm[ss[,SSSSSSSSS]]&quot;. </p>
+     *
+     * @param   text    text to be parsed completely
+     * @return  PlainTimestamp or {@code null} if the text has an unusual form
+     */
+    static PlainTimestamp parseTimestamp(CharSequence text) {
+
+        Iso8601Codec codec = new Iso8601Codec(text, 0);
+
+        if (codec.readDate() && codec.readTime() && codec.isAtEnd()) {
+            return PlainTimestamp.of(
+                PlainDate.of(codec.year, codec.month, codec.dayOfMonth),
+                PlainTime.of(codec.hour, codec.minute, codec.second, codec.nano));
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Interpretiert einen Zeitstempel mit Offset im Format
+     * &quot;uuuu-MM-ddTHH:mm[:ss[,SSSSSSSSS]]{Z|&plusmn;HH:mm}&quot;
+     * oder &quot;uuuuMMddTHHmm[ss[,SSSSSSSSS]]{Z|&plusmn;HHmm}&quot;. </p>
+     *
+     * @param   text    text to be parsed completely
+     * @return  Moment or {@code null} if the text has an unusual form
+     */
+    static Moment parseMoment(CharSequence text) {
+
+        Iso8601Codec codec = scanMoment(text, 0);
+
+        if (codec != null) {
+            return Moment.of(codec.getPosixTime(), codec.nano, TimeScale.POSIX);
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Interpretiert ein Kalenderdatum wie {@link #parseDate(CharSequence)} ab der angegebenen
+     * Position bis zum Textende, aber ohne ein Datumsobjekt zu erzeugen. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   start   start position
+     * @return  days since UNIX epoch or {@code Long.MIN_VALUE} if the text has an unusual form
+     */
+    static long parseEpochDays(
+        CharSequence text,
+        int start
+    ) {
+
+        Iso8601Codec codec = new Iso8601Codec(text, start);
+
+        if (codec.readDate() && codec.isAtEnd()) {
+            return codec.getEpochDays();
+        }
+
+        return Long.MIN_VALUE;
+
+    }
+
+    /**
+     * <p>Interpretiert einen Zeitstempel mit Offset wie {@link #parseMoment(CharSequence)} ab
+     * der angegebenen Position bis zum Textende. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   start   start position
+     * @return  codec with parsed fields or {@code null} if the text has an unusual form
+     */
+    static Iso8601Codec scanMoment(
+        CharSequence text,
+        int start
+    ) {
+
+        Iso8601Codec codec = new Iso8601Codec(text, start);
+
+        if (codec.readDate() && codec.readTime() && codec.readOffset() && codec.isAtEnd()) {
+            return codec;
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Liefert die POSIX-Zeit eines erfolgreich interpretierten Zeitstempels mit Offset. </p>
+     *
+     * @return  elapsed seconds since UNIX epoch
+     */
+    long getPosixTime() {
+
+        return this.getEpochDays() * 86400 + this.hour * 3600 + this.minute * 60 + this.second - this.offset;
+
+    }
+
+    /**
+     * <p>Liefert den Nanosekundenteil eines erfolgreich interpretierten Zeitstempels. </p>
+     *
+     * @return  nanosecond in range 0-999,999,999
+     */
+    int getNanosecond() {
+
+        return this.nano;
+
+    }
+
+    /**
+     * <p>Schreibt ein Kalenderdatum mit vierstelligem Jahr. </p>
+     *
+     * @param   date        calendar date
+     * @param   extended    extended or basic format
+     * @param   buffer      text output buffer
+     * @return  {@code false} if the year is not in range 0-9999 (nothing written) else {@code true}
+     */
+    static boolean printDate(
+        PlainDate date,
+        boolean extended,
+        StringBuilder buffer
+    ) {
+
+        return printDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), extended, buffer);
+
+    }
+
+    /**
+     * <p>Schreibt einen Zeitstempel mit vierstelligem Jahr. </p>
+     *
+     * @param   tsp         timestamp
+     * @param   extended    extended or basic format
+     * @param   separator   decimal separator char
+     * @param   buffer      text output buffer
+     * @return  {@code false} if the year is not in range 0-9999 (nothing written) else {@code true}
+     */
+    static boolean printTimestamp(
+        PlainTimestamp tsp,
+        boolean extended,
+        char separator,
+        StringBuilder buffer
+    ) {
+
+        if (printDate(tsp.getYear(), tsp.getMonth(), tsp.getDayOfMonth(), extended, buffer)) {
+            printTime(tsp.getHour(), tsp.getMinute(), tsp.getSecond(), tsp.getNanosecond(), extended, separator, buffer);
+            return true;
+        }
+
+        return false;
+
+    }
+
+    /**
+     * <p>Schreibt einen Moment in UTC mit vierstelligem Jahr. </p>
+     *
+     * @param   moment      moment to be printed (with zero offset)
+     * @param   extended    extended or basic format
+     * @param   separator   decimal separator char
+     * @param   buffer      text output buffer
+     * @return  {@code false} if the moment is a leap second or the year is not in range 0-9999
+     *          (nothing written) else {@code true}
+     */
+    static boolean printMoment(
+        Moment moment,
+        boolean extended,
+        char separator,
+        StringBuilder buffer
+    ) {
+
+        if (moment.isLeapSecond()) {
+            return false;
+        }
+
+        long posix = moment.getPosixTime();
+        long packedDate = GregorianMath.toPackedDate(MathUtils.floorDivide(posix, 86400) + UNIX_OFFSET_MJD);
+        int secondOfDay = MathUtils.floorModulo(posix, 86400);
+        int y = GregorianMath.readYear(packedDate);
+        int m = GregorianMath.readMonth(packedDate);
+        int d = GregorianMath.readDayOfMonth(packedDate);
+
+        if (printDate(y, m, d, extended, buffer)) {
+            int h = secondOfDay / 3600;
+            int min = (secondOfDay / 60) % 60;
+            int s = secondOfDay % 60;
+            printTime(h, min, s, moment.getNanosecond(), extended, separator, buffer);
+            buffer.append('Z');
+            return true;
+        }
+
+        return false;
+
+    }
+
+    private static boolean printDate(
+        int y,
+        int m,
+        int d,
+        boolean extended,
+        StringBuilder buffer
+    ) {
+
+        if ((y < 0) || (y > 9999)) {
+            return false;
+        }
+
+        append(y / 100, buffer);
+        append(y % 100, buffer);
+
+        if (extended) {
+            buffer.append('-');
+        }
+
+        append(m, buffer);
+
+        if (extended) {
+            buffer.append('-');
+        }
+
+        append(d, buffer);
+        return true;
+
+    }
+
+    // same output as optional sections of Iso8601Format.addWallTime(builder, extended, decimalStyle)
+    private static void printTime(
+        int h,
+        int m,
+        int s,
+        int nano,
+        boolean extended,
+        char separator,
+        StringBuilder buffer
+    ) {
+
+        buffer.append('T');
+        append(h, buffer);
+
+        if (extended) {
+            buffer.append(':');
+        }
+
+        append(m, buffer);
+
+        if ((s == 0) && (nano == 0)) {
+            return;
+        }
+
+        if (extended) {
+            buffer.append(':');
+        }
+
+        append(s, buffer);
+
+        if (nano == 0) {
+            return;
+        }
+
+        buffer.append(separator);
+        int digits = 9;
+        int value = nano;
+
+        while (value % 10 == 0) {
+            value /= 10;
+            digits--;
+        }
+
+        for (int i = 0; i < digits; i++) {
+            buffer.append((char) ('0' + (nano / POWERS[i]) % 10));
+        }
+
+    }
+
+    private static void append(
+        int twoDigits,
+        StringBuilder buffer
+    ) {
+
+        buffer.append((char) ('0' + twoDigits / 10));
+        buffer.append((char) ('0' + twoDigits % 10));
+
+    }
+
+    // extended format is recognized by a hyphen in the date part
+    private static boolean isExtended(
+        CharSequence text,
+        int start
+    ) {
+
+        return ((text.length() > start + 4) && (text.charAt(start + 4) == '-'));
+
+    }
+
+    private long getEpochDays() {
+
+        return GregorianMath.toMJD(this.year, this.month, this.dayOfMonth) - UNIX_OFFSET_MJD;
+
+    }
+
+    private boolean isAtEnd() {
+
+        return (this.pos == this.text.length());
+
+    }
+
+    private boolean readDate() {
+
+        this.year = this.readDigits(4);
+
+        if ((this.year < 0) || !this.readSeparator('-')) {
+            return false;
+        }
+
+        this.month = this.readDigits(2);
+
+        if ((this.month < 0) || !this.readSeparator('-')) {
+            return false;
+        }
+
+        this.dayOfMonth = this.readDigits(2);
+        return ((this.dayOfMonth >= 0) && GregorianMath.isValid(this.year, this.month, this.dayOfMonth));
+
+    }
+
+    private boolean readTime() {
+
+        if ((this.pos >= this.text.length()) || (this.text.charAt(this.pos) != 'T')) {
+            return false;
+        }
+
+        this.pos++;
+        this.hour = this.readDigits(2);
+
+        if ((this.hour < 0) || (this.hour > 23) || !this.readSeparator(':')) {
+            return false; // includes hour 24 which requires normalization
+        }
+
+        this.minute = this.readDigits(2);
+
+        if ((this.minute < 0) || (this.minute > 59)) {
+            return false;
+        }
+
+        this.second = 0;
+        this.nano = 0;
+
+        if (!this.hasTimeContinuation()) {
+            return true;
+        } else if (!this.readSeparator(':')) {
+            return false;
+        }
+
+        this.second = this.readDigits(2);
+
+        if ((this.second < 0) || (this.second > 59)) {
+            return false; // leap seconds are left to the general engine
+        }
+
+        if (this.pos < this.text.length()) {
+            char c = this.text.charAt(this.pos);
+            if ((c == ',') || (c == '.')) {
+                this.pos++;
+                int count = 0;
+                while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                    if (count == 9) {
+                        return false;
+                    }
+                    this.nano += (this.text.charAt(this.pos) - '0') * POWERS[count];
+                    count++;
+                    this.pos++;
+                }
+                return (count > 0);
+            }
+        }
+
+        return true;
+
+    }
+
+    private boolean readOffset() {
+
+        if (this.pos >= this.text.length()) {
+            return false;
+        }
+
+        char c = this.text.charAt(this.pos);
+
+        if (c == 'Z') {
+            this.pos++;
+            this.offset = 0;
+            return true;
+        } else if ((c != '+') && (c != '-')) {
+            return false;
+        }
+
+        this.pos++;
+        int h = this.readDigits(2);
+
+        if ((h < 0) || (h > 18) || !this.readSeparator(':')) {
+            return false;
+        }
+
+        int m = this.readDigits(2);
+
+        if ((m < 0) || (m > 59) || ((h == 18) && (m > 0))) {
+            return false;
+        }
+
+        int total = h * 3600 + m * 60;
+
+        if ((c == '-') && (total == 0)) {
+            return false; // special case of unknown local offset left to the general engine
+        }
+
+        this.offset = ((c == '-') ? -total : total);
+        return true;
+
+    }
+
+    // separators are only expected in extended format
+    private boolean readSeparator(char separator) {
+
+        if (!this.extended) {
+            return true;
+        } else if ((this.pos < this.text.length()) && (this.text.charAt(this.pos) == separator)) {
+            this.pos++;
+            return true;
+        }
+
+        return false;
+
+    }
+
+    // true if seconds follow the minute part
+    private boolean hasTimeContinuation() {
+
+        if (this.pos >= this.text.length()) {
+            return false;
+        }
+
+        char c = this.text.charAt(this.pos);
+        return (this.extended ? (c == ':') : isDigit(c));
+
+    }
+
+    // -1 if not enough ascii digits
+    private int readDigits(int count) {
+
+        if (this.pos + count > this.text.length()) {
+            return -1;
+        }
+
+        int value = 0;
+
+        for (int i = 0; i < count; i++) {
+            char c = this.text.charAt(this.pos + i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+
+        this.pos += count;
+        return value;
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+}
@@ -31,6 +31,7 @@ import net.time4j.engine.ChronoCondition;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.Leniency;
@@ -571,6 +572,12 @@ public class Iso8601Format {
      */
     public static PlainDate parseDate(CharSequence iso) throws ParseException {
 
+        PlainDate fast = Iso8601Codec.parseDate(iso);
+
+        if (fast != null) {
+            return fast;
+        }
+
         ParseLog plog = new ParseLog();
         PlainDate date = parseDate(iso, plog);
 
@@ -653,6 +660,363 @@ LOOP:
 
     }
 
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string in basic or extended format. </p>
+     *
+     * <p>Common inputs with four-digit year are parsed by a specialized digit scanner which bypasses
+     * the general format engine. All other inputs are delegated to {@link #BASIC_DATE_TIME} or
+     * {@link #EXTENDED_DATE_TIME} so the result is always the same. </p>
+     *
+     * @param   iso     text like &quot;20160101T1045&quot; or &quot;2016-01-01T10:45:30,123&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext im <i>basic</i>-Format
+     * oder im <i>extended</i>-Format. </p>
+     *
+     * <p>&Uuml;bliche Eingaben mit vierstelligem Jahr werden von einem spezialisierten Ziffernleser
+     * ohne Umweg &uuml;ber das allgemeine Formatsystem interpretiert. Alle anderen Eingaben werden
+     * an {@link #BASIC_DATE_TIME} oder {@link #EXTENDED_DATE_TIME} delegiert, so da&szlig; das
+     * Ergebnis immer gleich ist. </p>
+     *
+     * @param   iso     text like &quot;20160101T1045&quot; or &quot;2016-01-01T10:45:30,123&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.6
+     */
+    public static PlainTimestamp parseTimestamp(CharSequence iso) throws ParseException {
+
+        PlainTimestamp fast = Iso8601Codec.parseTimestamp(iso);
+
+        if (fast != null) {
+            return fast;
+        }
+
+        return (isExtended(iso) ? EXTENDED_DATE_TIME : BASIC_DATE_TIME).parse(iso);
+
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string with offset in basic or extended format. </p>
+     *
+     * <p>Common inputs with four-digit year are parsed by a specialized digit scanner which bypasses
+     * the general format engine. All other inputs (for example leap seconds) are delegated to
+     * {@link #BASIC_DATE_TIME_OFFSET} or {@link #EXTENDED_DATE_TIME_OFFSET} so the result is always
+     * the same. </p>
+     *
+     * @param   iso     text like &quot;20160101T1045Z&quot; or &quot;2016-01-01T10:45:30,123+01:00&quot;
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext mit Offset im
+     * <i>basic</i>-Format oder im <i>extended</i>-Format. </p>
+     *
+     * <p>&Uuml;bliche Eingaben mit vierstelligem Jahr werden von einem spezialisierten Ziffernleser
+     * ohne Umweg &uuml;ber das allgemeine Formatsystem interpretiert. Alle anderen Eingaben (zum
+     * Beispiel Schaltsekunden) werden an {@link #BASIC_DATE_TIME_OFFSET} oder
+     * {@link #EXTENDED_DATE_TIME_OFFSET} delegiert, so da&szlig; das Ergebnis immer gleich ist. </p>
+     *
+     * @param   iso     text like &quot;20160101T1045Z&quot; or &quot;2016-01-01T10:45:30,123+01:00&quot;
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.6
+     */
+    public static Moment parseMoment(CharSequence iso) throws ParseException {
+
+        Moment fast = Iso8601Codec.parseMoment(iso);
+
+        if (fast != null) {
+            return fast;
+        }
+
+        return (isExtended(iso) ? EXTENDED_DATE_TIME_OFFSET : BASIC_DATE_TIME_OFFSET).parse(iso);
+
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible date string starting at given position like
+     * {@link #parseDate(CharSequence)} but yields the count of days since UNIX epoch
+     * (1970-01-01). </p>
+     *
+     * <p>Common inputs are scanned without creating any intermediate objects which is useful
+     * for sort keys or columnar loaders. </p>
+     *
+     * @param   text    text whose remainder starting at given position represents a date
+     * @param   offset  start position
+     * @return  days since UNIX epoch
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Datumstext ab der angegebenen Position
+     * wie {@link #parseDate(CharSequence)}, liefert aber die Anzahl der Tage seit der UNIX-Epoche
+     * (1970-01-01). </p>
+     *
+     * <p>&Uuml;bliche Eingaben werden ohne Erzeugung von Zwischenobjekten interpretiert, was
+     * f&uuml;r Sortierschl&uuml;ssel oder spaltenorientierte Ladevorg&auml;nge n&uuml;tzlich ist. </p>
+     *
+     * @param   text    text whose remainder starting at given position represents a date
+     * @param   offset  start position
+     * @return  days since UNIX epoch
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     * @since   5.6
+     */
+    public static long parseToEpochDays(
+        CharSequence text,
+        int offset
+    ) throws ParseException {
+
+        checkOffset(text, offset);
+        long days = Iso8601Codec.parseEpochDays(text, offset);
+
+        if (days == Long.MIN_VALUE) {
+            PlainDate date = parseDate(text.subSequence(offset, text.length()));
+            days = EpochDays.UNIX.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC);
+        }
+
+        return days;
+
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string with offset starting at given position
+     * like {@link #parseMoment(CharSequence)} but yields the elapsed milliseconds since UNIX epoch. </p>
+     *
+     * <p>Common inputs are scanned without creating any intermediate objects. Digits of fraction
+     * beyond milliseconds are truncated. </p>
+     *
+     * @param   text    text whose remainder starting at given position represents a moment
+     * @param   offset  start position
+     * @return  elapsed milliseconds since UNIX epoch
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     * @throws  ArithmeticException if the result does not fit into a long
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext mit Offset ab der
+     * angegebenen Position wie {@link #parseMoment(CharSequence)}, liefert aber die seit der
+     * UNIX-Epoche verstrichenen Millisekunden. </p>
+     *
+     * <p>&Uuml;bliche Eingaben werden ohne Erzeugung von Zwischenobjekten interpretiert.
+     * Nachkommastellen jenseits der Millisekunden werden abgeschnitten. </p>
+     *
+     * @param   text    text whose remainder starting at given position represents a moment
+     * @param   offset  start position
+     * @return  elapsed milliseconds since UNIX epoch
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range
+     * @throws  ArithmeticException if the result does not fit into a long
+     * @since   5.6
+     */
+    public static long parseToEpochMillis(
+        CharSequence text,
+        int offset
+    ) throws ParseException {
+
+        checkOffset(text, offset);
+        Iso8601Codec codec = Iso8601Codec.scanMoment(text, offset);
+
+        if (codec != null) {
+            return Math.addExact(Math.multiplyExact(codec.getPosixTime(), 1000), codec.getNanosecond() / 1_000_000);
+        }
+
+        Moment moment = parseMoment(text.subSequence(offset, text.length()));
+        return Math.addExact(Math.multiplyExact(moment.getPosixTime(), 1000), moment.getNanosecond() / 1_000_000);
+
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string with offset starting at given position
+     * like {@link #parseMoment(CharSequence)} but yields the elapsed seconds since UNIX epoch
+     * and stores the nanosecond fraction in given holder. </p>
+     *
+     * <p>Common inputs are scanned without creating any intermediate objects. </p>
+     *
+     * @param   text            text whose remainder starting at given position represents a moment
+     * @param   offset          start position
+     * @param   nanoOfSecond    holder whose first element will receive the nanosecond fraction
+     * @return  elapsed seconds since UNIX epoch (POSIX time)
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range or if the holder is empty
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext mit Offset ab der
+     * angegebenen Position wie {@link #parseMoment(CharSequence)}, liefert aber die seit der
+     * UNIX-Epoche verstrichenen Sekunden und speichert den Nanosekundenteil im angegebenen
+     * Beh&auml;lter. </p>
+     *
+     * <p>&Uuml;bliche Eingaben werden ohne Erzeugung von Zwischenobjekten interpretiert. </p>
+     *
+     * @param   text            text whose remainder starting at given position represents a moment
+     * @param   offset          start position
+     * @param   nanoOfSecond    holder whose first element will receive the nanosecond fraction
+     * @return  elapsed seconds since UNIX epoch (POSIX time)
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the offset is out of range or if the holder is empty
+     * @since   5.6
+     */
+    public static long parseToPosixTime(
+        CharSequence text,
+        int offset,
+        int[] nanoOfSecond
+    ) throws ParseException {
+
+        checkOffset(text, offset);
+
+        if (nanoOfSecond.length == 0) {
+            throw new IndexOutOfBoundsException("Empty nanosecond holder.");
+        }
+
+        Iso8601Codec codec = Iso8601Codec.scanMoment(text, offset);
+
+        if (codec != null) {
+            nanoOfSecond[0] = codec.getNanosecond();
+            return codec.getPosixTime();
+        }
+
+        Moment moment = parseMoment(text.subSequence(offset, text.length()));
+        nanoOfSecond[0] = moment.getNanosecond();
+        return moment.getPosixTime();
+
+    }
+
+    /**
+     * <p>Prints given calendar date in the same way as {@link #BASIC_CALENDAR_DATE} or
+     * {@link #EXTENDED_CALENDAR_DATE} but without using the general format engine for
+     * four-digit years. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Kalenderdatum genauso wie {@link #BASIC_CALENDAR_DATE} oder
+     * {@link #EXTENDED_CALENDAR_DATE}, aber f&uuml;r vierstellige Jahre ohne Umweg &uuml;ber das
+     * allgemeine Formatsystem. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    public static void print(
+        PlainDate date,
+        boolean extended,
+        StringBuilder buffer
+    ) {
+
+        if (!Iso8601Codec.printDate(date, extended, buffer)) {
+            (extended ? EXTENDED_CALENDAR_DATE : BASIC_CALENDAR_DATE).printTo(date, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Prints given timestamp in the same way as {@link #BASIC_DATE_TIME} or
+     * {@link #EXTENDED_DATE_TIME} but without using the general format engine for
+     * four-digit years. </p>
+     *
+     * @param   tsp         timestamp to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitstempel genauso wie {@link #BASIC_DATE_TIME} oder
+     * {@link #EXTENDED_DATE_TIME}, aber f&uuml;r vierstellige Jahre ohne Umweg &uuml;ber das
+     * allgemeine Formatsystem. </p>
+     *
+     * @param   tsp         timestamp to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    public static void print(
+        PlainTimestamp tsp,
+        boolean extended,
+        StringBuilder buffer
+    ) {
+
+        if (!Iso8601Codec.printTimestamp(tsp, extended, getDecimalSeparator(), buffer)) {
+            (extended ? EXTENDED_DATE_TIME : BASIC_DATE_TIME).printTo(tsp, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Prints given moment in the same way as {@link #BASIC_DATE_TIME_OFFSET} or
+     * {@link #EXTENDED_DATE_TIME_OFFSET} (in UTC) but without using the general format engine
+     * for four-digit years. </p>
+     *
+     * @param   moment      moment to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Moment genauso wie {@link #BASIC_DATE_TIME_OFFSET} oder
+     * {@link #EXTENDED_DATE_TIME_OFFSET} (in UTC), aber f&uuml;r vierstellige Jahre ohne Umweg
+     * &uuml;ber das allgemeine Formatsystem. </p>
+     *
+     * @param   moment      moment to be printed
+     * @param   extended    extended or basic format?
+     * @param   buffer      text output buffer
+     * @since   5.6
+     */
+    public static void print(
+        Moment moment,
+        boolean extended,
+        StringBuilder buffer
+    ) {
+
+        if (!Iso8601Codec.printMoment(moment, extended, getDecimalSeparator(), buffer)) {
+            (extended ? EXTENDED_DATE_TIME_OFFSET : BASIC_DATE_TIME_OFFSET).printTo(moment, buffer);
+        }
+
+    }
+
+    private static void checkOffset(
+        CharSequence text,
+        int offset
+    ) {
+
+        if ((offset < 0) || (offset >= text.length())) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        }
+
+    }
+
+    // extended format is recognized by a hyphen in the date part (leading sign ignored)
+    private static boolean isExtended(CharSequence iso) {
+
+        for (int i = 1, n = iso.length(); i < n; i++) {
+            char c = iso.charAt(i);
+            if (c == '-') {
+                return true;
+            } else if ((c == 'T') || (c < '0') || (c > '9')) {
+                return false;
+            }
+        }
+
+        return false;
+
+    }
+
+    private static char getDecimalSeparator() {
+
+        return ((DEFAULT_ISO_DECIMAL_STYLE == IsoDecimalStyle.DOT) ? '.' : ',');
+
+    }
+
     private static ChronoFormatter<PlainDate> calendarFormat(boolean extended) {
 
         ChronoFormatter.Builder<PlainDate> builder =
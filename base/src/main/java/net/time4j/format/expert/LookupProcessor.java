@@ -27,9 +27,12 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.format.Attributes;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +60,9 @@ final class LookupProcessor<V>
     private final boolean caseInsensitive;
     private final Locale locale;
 
+    // lazy parse index for last used combination of case sensitivity and language
+    private volatile LookupIndex index = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private LookupProcessor(
@@ -201,38 +207,38 @@ final class LookupProcessor<V>
                 ? this.locale
                 : attributes.get(Attributes.LANGUAGE, Locale.getDefault(Locale.Category.FORMAT)));
         int maxCount = len - start;
+        LookupIndex li = this.index;
+
+        if ((li == null) || (li.ignoreCase != ignoreCase) || !li.locale.equals(loc)) {
+            li = new LookupIndex(ignoreCase, loc);
+            this.index = li; // racy but harmless
+        }
+
+        int best = Integer.MAX_VALUE;
+        int count = 0;
+
+        for (int i = 0; i < li.lengths.length; i++) {
+            int n = li.lengths[i];
 
-        for (V value : this.resources.keySet()) {
-            String test = this.getString(value);
-
-            if (ignoreCase) {
-                String upper = test.toUpperCase(loc);
-                int count = test.length();
-
-                if (count <= maxCount) {
-                    String s = text.subSequence(start, start + count).toString().toUpperCase(loc);
-
-                    if (upper.equals(s)) {
-                        parsedResult.put(this.element, value);
-                        status.setPosition(start + count);
-                        return;
-                    }
-                }
-            } else {
-                int count = test.length();
-
-                if (count <= maxCount) {
-                    CharSequence cs = text.subSequence(start, start + count);
-
-                    if (test.equals(cs.toString())) {
-                        parsedResult.put(this.element, value);
-                        status.setPosition(start + count);
-                        return;
-                    }
-                }
+            if (n > maxCount) {
+                break;
+            }
+
+            String s = text.subSequence(start, start + n).toString();
+            Integer rank = li.forms.get(i).get(ignoreCase ? s.toUpperCase(loc) : s);
+
+            if ((rank != null) && (rank.intValue() < best)) {
+                best = rank.intValue();
+                count = n;
             }
         }
 
+        if (best < Integer.MAX_VALUE) {
+            parsedResult.put(this.element, li.values.get(best));
+            status.setPosition(start + count);
+            return;
+        }
+
         status.setError(start, "Element value could not be parsed: " + this.element.name());
 
     }
@@ -352,4 +358,62 @@ final class LookupProcessor<V>
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Index der Textressourcen gruppiert nach L&auml;nge, der Rang entspricht der Iterationsreihenfolge
+     * der Ressourcen und entscheidet bei mehreren Treffern. </p>
+     */
+    private class LookupIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean ignoreCase;
+        private final Locale locale;
+        private final List<V> values;
+        private final int[] lengths; // ascending
+        private final List<Map<String, Integer>> forms;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LookupIndex(
+            boolean ignoreCase,
+            Locale locale
+        ) {
+            super();
+
+            Map<Integer, Map<String, Integer>> byLength = new HashMap<>();
+            List<V> values = new ArrayList<>(LookupProcessor.this.resources.size());
+
+            for (V value : LookupProcessor.this.resources.keySet()) {
+                String test = LookupProcessor.this.getString(value);
+                Map<String, Integer> map = byLength.computeIfAbsent(test.length(), k -> new HashMap<>());
+                map.putIfAbsent((ignoreCase ? test.toUpperCase(locale) : test), values.size());
+                values.add(value);
+            }
+
+            int[] lengths = new int[byLength.size()];
+            int i = 0;
+
+            for (Integer len : byLength.keySet()) {
+                lengths[i++] = len.intValue();
+            }
+
+            Arrays.sort(lengths);
+            List<Map<String, Integer>> forms = new ArrayList<>(lengths.length);
+
+            for (int len : lengths) {
+                forms.add(byLength.get(len));
+            }
+
+            this.ignoreCase = ignoreCase;
+            this.locale = locale;
+            this.values = values;
+            this.lengths = lengths;
+            this.forms = forms;
+
+        }
+
+    }
+
 }
@@ -56,6 +56,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ParsedValues reusableValues;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -359,6 +360,7 @@ public class ParseLog {
         this.errorMessage = "";
         this.warning = false;
         this.rawValues = null;
+        this.reusableValues = null;
 
     }
 
@@ -414,6 +416,30 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Bietet eine wiederverwendbare Instanz f&uuml;r den n&auml;chsten Parse-Vorgang an. </p>
+     *
+     * @param   values      cleared parsed values
+     */
+    void offerValues(ParsedValues values) {
+
+        this.reusableValues = values;
+
+    }
+
+    /**
+     * <p>Entnimmt die angebotene wiederverwendbare Instanz (h&ouml;chstens einmal pro Parse-Vorgang). </p>
+     *
+     * @return  parsed values or {@code null} if not offered
+     */
+    ParsedValues pollValues() {
+
+        ParsedValues values = this.reusableValues;
+        this.reusableValues = null;
+        return values;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
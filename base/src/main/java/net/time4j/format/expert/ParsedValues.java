@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -541,6 +542,40 @@ class ParsedValues
 
     }
 
+    // are only indexable elements used?
+    boolean isIndexable() {
+
+        return (this.keys == null);
+
+    }
+
+    // prepares this instance for a complete new parse process (used by ParseContext)
+    void clear() {
+
+        if (this.keys == null) {
+            this.len = Integer.MIN_VALUE;
+            this.mask = Integer.MIN_VALUE;
+            this.threshold = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE;
+            for (int i = 0; i < 3; i++) {
+                this.ints[i] = Integer.MIN_VALUE;
+            }
+            if (this.map != null) {
+                this.map.clear();
+            }
+        } else {
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
+        }
+
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
     // called in context of erraneous or-block
     void reset() {
 
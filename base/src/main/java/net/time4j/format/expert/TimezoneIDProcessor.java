@@ -47,6 +47,9 @@ enum TimezoneIDProcessor
     /** Singleton. */
     INSTANCE;
 
+    // trie of all zone ids which can be parsed, rebuilt if the available ids change
+    private static volatile IdTrie idTrie = null;
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
@@ -108,19 +111,34 @@ enum TimezoneIDProcessor
             return;
         }
 
+        // schneller Weg ohne Zwischenstrings über längste Übereinstimmung im Trie
+        TZID match = getTrie().labels.longestMatch(text, status);
+
+        if (match != null) {
+            int end = status.getPosition();
+            pos = end;
+
+            while ((pos < len) && isIdChar(text.charAt(pos))) {
+                pos++;
+            }
+
+            if ((pos == end) || ((pos == end + 1) && !Character.isLetter(text.charAt(end)))) {
+                // same result as in the general algorithm below
+                parsedResult.put(TimezoneElement.TIMEZONE_ID, match);
+                return;
+            }
+
+            status.setPosition(start);
+            pos = start;
+        }
+
         // Zeitzonen-ID einlesen
         StringBuilder name = new StringBuilder();
 
         while (pos < len) {
             char c = text.charAt(pos);
 
-            if ( // siehe Theory-Datei in TZDB
-                (c >= 'a' && c <= 'z')
-                || (c >= 'A' && c <= 'Z')
-                || (c == '-')
-                || (c == '_')
-                || (c == '/')
-            ) {
+            if (isIdChar(c)) {
                 name.append(c);
                 pos++;
             } else {
@@ -225,4 +243,88 @@ enum TimezoneIDProcessor
 
     }
 
+    private static IdTrie getTrie() {
+
+        List<TZID> zones = Timezone.getAvailableIDs("INCLUDE_ALIAS");
+        IdTrie trie = idTrie;
+
+        if ((trie == null) || (trie.source != zones)) {
+            trie = new IdTrie(zones);
+            idTrie = trie;
+        }
+
+        return trie;
+
+    }
+
+    // siehe Theory-Datei in TZDB
+    private static boolean isIdChar(char c) {
+
+        return (
+            (c >= 'a' && c <= 'z')
+            || (c >= 'A' && c <= 'Z')
+            || (c == '-')
+            || (c == '_')
+            || (c == '/')
+        );
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class IdTrie {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<TZID> source;
+        private final ZoneLabels labels;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IdTrie(List<TZID> source) {
+            super();
+
+            ZoneLabels.Node node = null;
+
+            for (TZID tzid : source) {
+                String key = tzid.canonical();
+                if (isParseable(key)) {
+                    node = ZoneLabels.insert(node, key, tzid);
+                }
+            }
+
+            this.source = source;
+            this.labels = new ZoneLabels(node);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // only keys which the general algorithm can resolve by binary search
+        private static boolean isParseable(String key) {
+
+            if (
+                key.isEmpty()
+                || key.startsWith("Etc/GMT")
+                || key.equals("Z")
+                || key.equals("UTC")
+                || key.equals("GMT")
+                || key.equals("UT")
+                || !Character.isLetter(key.charAt(key.length() - 1))
+            ) {
+                return false;
+            }
+
+            for (int i = 0, n = key.length(); i < n; i++) {
+                if (!isIdChar(key.charAt(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+
+        }
+
+    }
+
 }
@@ -122,6 +122,54 @@ class ZoneLabels {
 
     }
 
+    /**
+     * <p>Determines the longest key which starts at the position of given parse log in one pass. </p>
+     *
+     * <p>If a key is found then the parse log will be updated to the end position of the key,
+     * otherwise the parse log stays unchanged. </p>
+     *
+     * @param   query   text to be searched
+     * @param   status  parse log whose position marks the start of the query
+     * @return  first zone id of longest key found or {@code null}
+     * @since   5.6
+     */
+    TZID longestMatch(
+        CharSequence query,
+        ParseLog status
+    ) {
+
+        Node node = this.root;
+        Node found = null;
+        int end = -1;
+        int i = status.getPosition();
+        int n = query.length();
+
+        while ((node != null) && (i < n)) {
+            char c = query.charAt(i);
+
+            if (c < node.c) {
+                node = node.left;
+            } else if (c > node.c) {
+                node = node.right;
+            } else {
+                i++;
+                if (node.zoneIDs != null) { // end node condition
+                    found = node;
+                    end = i;
+                }
+                node = node.mid;
+            }
+        }
+
+        if (found == null) {
+            return null;
+        }
+
+        status.setPosition(end);
+        return found.zoneIDs.get(0);
+
+    }
+
     List<TZID> find(String key) {
 
         if (key.isEmpty()) {
@@ -28,6 +28,7 @@ import net.time4j.PlainTimestamp;
 import net.time4j.engine.BasicUnit;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Chronology;
+import net.time4j.engine.EpochDays;
 import net.time4j.engine.UnitRule;
 
 
@@ -50,6 +51,38 @@ class BusinessDayUnit
     BusinessDayUnit(final HolidayModel model) {
         super();
 
+        if (model instanceof IndexedHolidayModel) {
+            IndexedHolidayModel ihm = (IndexedHolidayModel) model;
+            this.dateRule =
+                new UnitRule<PlainDate>() {
+                    @Override
+                    public PlainDate addTo(
+                        PlainDate date,
+                        long amount
+                    ) {
+                        if (amount == 0) {
+                            return date;
+                        }
+                        long utcDays = ihm.addBusinessDays(date.getDaysSinceEpochUTC(), amount);
+                        return PlainDate.of(utcDays, EpochDays.UTC);
+                    }
+                    @Override
+                    public long between(
+                        PlainDate start,
+                        PlainDate end
+                    ) {
+                        long s = start.getDaysSinceEpochUTC();
+                        long e = end.getDaysSinceEpochUTC();
+                        if (s <= e) {
+                            return ihm.countOfBusinessDays(s + 1, e);
+                        } else {
+                            return -ihm.countOfBusinessDays(e + 1, s);
+                        }
+                    }
+                };
+            return;
+        }
+
         this.dateRule =
             new UnitRule<PlainDate>() {
                 @Override
@@ -31,7 +31,11 @@ import net.time4j.engine.ChronoException;
 import net.time4j.engine.ChronoFunction;
 import net.time4j.engine.ChronoOperator;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 
@@ -101,10 +105,7 @@ public interface HolidayModel
      * @return  HolidayModel
      */
     static HolidayModel ofSaturdayOrSunday() {
-        return date -> {
-            Weekday wd = date.getDayOfWeek();
-            return ((wd == Weekday.SATURDAY) || (wd == Weekday.SUNDAY));
-        };
+        return new IndexedHolidayModel(EnumSet.of(Weekday.SATURDAY, Weekday.SUNDAY), Collections.emptyList());
     }
 
     /**
@@ -122,7 +123,67 @@ public interface HolidayModel
      * @see     Weekmodel#weekend()
      */
     static HolidayModel ofWeekend(Locale country) {
-        return date -> date.matches(Weekmodel.of(country).weekend());
+        Weekmodel model = Weekmodel.of(country);
+        return new IndexedHolidayModel(
+            EnumSet.of(model.getStartOfWeekend(), model.getEndOfWeekend()),
+            Collections.emptyList());
+    }
+
+    /**
+     * <p>Determines given weekend and given fixed list of holidays as non-business days. </p>
+     *
+     * <p>The holidays will be indexed in a sorted array such that the business day unit
+     * and the count of business days or holidays do not need to visit every single day
+     * but can apply a combination of weekend arithmetic and binary search. This is
+     * recommended for calculations over long periods. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *     HolidayModel hm =
+     *          HolidayModel.of(
+     *              EnumSet.of(Weekday.SATURDAY, Weekday.SUNDAY),
+     *              Arrays.asList(PlainDate.of(2017, 5, 1), PlainDate.of(2017, 5, 25)));
+     *     PlainDate date = PlainDate.of(2017, 4, 28).plus(1, hm.businessDays());
+     *     System.out.println(date); // 2017-05-02
+     * </pre>
+     *
+     * @param   weekend     set of weekdays which are always non-business days (not all seven days)
+     * @param   holidays    collection of additional non-business days
+     * @return  HolidayModel
+     * @throws  IllegalArgumentException if the weekend covers all days of week
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bestimmt das angegebene Wochenende und eine feste Liste von Feiertagen als arbeitsfreie Tage. </p>
+     *
+     * <p>Die Feiertage werden in einem sortierten Array indiziert, so da&szlig; die Arbeitstagseinheit
+     * und das Z&auml;hlen von Arbeitstagen oder Feiertagen nicht jeden einzelnen Tag besuchen m&uuml;ssen,
+     * sondern eine Kombination von Wochenarithmetik und bin&auml;rer Suche anwenden k&ouml;nnen. Das
+     * ist f&uuml;r Berechnungen &uuml;ber lange Zeitr&auml;ume zu empfehlen. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *     HolidayModel hm =
+     *          HolidayModel.of(
+     *              EnumSet.of(Weekday.SATURDAY, Weekday.SUNDAY),
+     *              Arrays.asList(PlainDate.of(2017, 5, 1), PlainDate.of(2017, 5, 25)));
+     *     PlainDate date = PlainDate.of(2017, 4, 28).plus(1, hm.businessDays());
+     *     System.out.println(date); // 2017-05-02
+     * </pre>
+     *
+     * @param   weekend     set of weekdays which are always non-business days (not all seven days)
+     * @param   holidays    collection of additional non-business days
+     * @return  HolidayModel
+     * @throws  IllegalArgumentException if the weekend covers all days of week
+     * @since   5.6
+     */
+    static HolidayModel of(
+        Set<Weekday> weekend,
+        Collection<PlainDate> holidays
+    ) {
+        return new IndexedHolidayModel(weekend, holidays);
     }
 
     /**
@@ -0,0 +1,279 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IndexedHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.Weekday;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+
+/**
+ * <p>Feiertagsmodell mit festem Wochenende und einer sortierten Liste von Feiertagen, das das Z&auml;hlen
+ * und Addieren von Arbeitstagen mit Hilfe von Wochenarithmetik und bin&auml;rer Suche erlaubt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class IndexedHolidayModel
+    implements HolidayModel {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // index 0 = Monday, index 6 = Sunday
+    private final boolean[] weekend;
+    private final int businessDaysPerWeek;
+
+    // sorted utc-days of all holidays which do not fall on weekend
+    private final long[] holidays;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    IndexedHolidayModel(
+        Set<Weekday> weekend,
+        Collection<PlainDate> holidays
+    ) {
+        super();
+
+        this.weekend = new boolean[7];
+        int countOfWeekend = 0;
+
+        for (Weekday wd : weekend) {
+            if (!this.weekend[wd.getValue() - 1]) {
+                this.weekend[wd.getValue() - 1] = true;
+                countOfWeekend++;
+            }
+        }
+
+        if (countOfWeekend == 7) {
+            throw new IllegalArgumentException("Weekend must not cover all days of week.");
+        }
+
+        this.businessDaysPerWeek = 7 - countOfWeekend;
+
+        long[] array = new long[holidays.size()];
+        int n = 0;
+
+        for (PlainDate date : holidays) {
+            long utcDays = date.getDaysSinceEpochUTC();
+            if (!this.isWeekend(utcDays)) {
+                array[n++] = utcDays;
+            }
+        }
+
+        Arrays.sort(array, 0, n);
+        int distinct = 0;
+
+        for (int i = 0; i < n; i++) {
+            if ((distinct == 0) || (array[distinct - 1] != array[i])) {
+                array[distinct++] = array[i];
+            }
+        }
+
+        this.holidays = Arrays.copyOf(array, distinct);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        long utcDays = date.getDaysSinceEpochUTC();
+        return this.isWeekend(utcDays) || (Arrays.binarySearch(this.holidays, utcDays) >= 0);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfBusinessDays() {
+
+        return interval -> this.count(interval, true);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfHolidays() {
+
+        return interval -> this.count(interval, false);
+
+    }
+
+    /**
+     * <p>Z&auml;hlt die Arbeitstage im geschlossenen Intervall [start, end] (beide in UTC-Tagen). </p>
+     *
+     * @param   start   first day (inclusive)
+     * @param   end     last day (inclusive)
+     * @return  count of business days (zero if start is after end)
+     */
+    long countOfBusinessDays(
+        long start,
+        long end
+    ) {
+
+        if (start > end) {
+            return 0L;
+        }
+
+        return this.countOfWeekdays(start, end) - this.countOfHolidays(start, end);
+
+    }
+
+    /**
+     * <p>Verschiebt das angegebene Datum um die angegebene Anzahl von Arbeitstagen. </p>
+     *
+     * @param   utcDays     start date in utc-days
+     * @param   amount      count of business days to be added (maybe negative)
+     * @return  shifted date in utc-days
+     */
+    long addBusinessDays(
+        long utcDays,
+        long amount
+    ) {
+
+        long current = utcDays;
+        long remaining = amount;
+
+        while (remaining > 0) {
+            long next = this.addWeekdays(current, remaining);
+            remaining = this.countOfHolidays(current + 1, next);
+            current = next;
+        }
+
+        while (remaining < 0) {
+            long next = this.addWeekdays(current, remaining);
+            remaining = -this.countOfHolidays(next, current - 1);
+            current = next;
+        }
+
+        return current;
+
+    }
+
+    private Integer count(
+        ChronoInterval<PlainDate> interval,
+        boolean businessDays
+    ) {
+
+        if (!interval.isFinite()) {
+            throw new ChronoException("Cannot query infinite intervals.");
+        } else if (interval.isEmpty()) {
+            return Integer.valueOf(0);
+        }
+
+        DateInterval di = DateInterval.from(interval);
+        long start = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+        long end = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+        long count = this.countOfBusinessDays(start, end);
+
+        if (!businessDays) {
+            count = end - start + 1 - count;
+        }
+
+        if (count > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Numerical overflow.");
+        }
+
+        return Integer.valueOf((int) count);
+
+    }
+
+    private boolean isWeekend(long utcDays) {
+
+        return this.weekend[dayOfWeekIndex(utcDays)];
+
+    }
+
+    // count of days in [start, end] which are not on weekend
+    private long countOfWeekdays(
+        long start,
+        long end
+    ) {
+
+        long days = end - start + 1;
+        long count = (days / 7) * this.businessDaysPerWeek;
+
+        for (long d = start + days - days % 7; d <= end; d++) {
+            if (!this.isWeekend(d)) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    // count of holidays in [start, end]
+    private long countOfHolidays(
+        long start,
+        long end
+    ) {
+
+        return insertionPoint(this.holidays, end + 1) - insertionPoint(this.holidays, start);
+
+    }
+
+    // n-th day after (or before if negative) given day which is not on weekend, holidays not considered
+    private long addWeekdays(
+        long utcDays,
+        long amount
+    ) {
+
+        int step = ((amount > 0) ? 1 : -1);
+        long remaining = Math.abs(amount);
+        long weeks = (remaining - 1) / this.businessDaysPerWeek;
+        long current = utcDays + step * weeks * 7;
+        remaining -= weeks * this.businessDaysPerWeek;
+
+        while (remaining > 0) {
+            current += step;
+            if (!this.isWeekend(current)) {
+                remaining--;
+            }
+        }
+
+        return current;
+
+    }
+
+    // index of first element which is not smaller than given key
+    private static int insertionPoint(
+        long[] array,
+        long key
+    ) {
+
+        int index = Arrays.binarySearch(array, key);
+        return ((index >= 0) ? index : -(index + 1));
+
+    }
+
+    // 1972-01-01 was a Saturday (index 5)
+    private static int dayOfWeekIndex(long utcDays) {
+
+        return (int) Math.floorMod(utcDays + 5, 7L);
+
+    }
+
+}
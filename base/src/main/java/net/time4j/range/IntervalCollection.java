@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (IntervalCollection.java) is part of project Time4J.
  *
@@ -636,9 +636,24 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals);
-        windows.add(this.adjust(interval));
-        windows.sort(this.getComparator());
+        ChronoInterval<T> iv = this.adjust(interval);
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        int low = 0;
+        int high = this.intervals.size();
+
+        while (low < high) { // insertion behind all equal elements
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(this.intervals.get(mid), iv) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals.size() + 1);
+        windows.addAll(this.intervals.subList(0, low));
+        windows.add(iv);
+        windows.addAll(this.intervals.subList(low, this.intervals.size()));
         return this.create(windows);
 
     }
@@ -706,11 +721,14 @@ public abstract class IntervalCollection<T>
      */
     public IntervalCollection<T> plus(IntervalCollection<T> other) {
 
-        if (this == other) {
+        if ((this == other) || other.isEmpty()) {
             return this;
+        } else if (this.isEmpty()) {
+            return this.create(other.intervals);
         }
 
-        return this.plus(other.getIntervals());
+        // both lists are already sorted and adjusted
+        return this.create(IntervalSweep.merge(this.intervals, other.intervals, this.getComparator()));
 
     }
 
@@ -814,7 +832,6 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        List<ChronoInterval<T>> parts = new ArrayList<>();
         List<ChronoInterval<T>> list = new ArrayList<>();
 
         for (ChronoInterval<T> i : intervals) {
@@ -824,19 +841,7 @@ public abstract class IntervalCollection<T>
         }
 
         list.sort(this.getComparator());
-        IntervalCollection<T> subtrahend = this.create(list);
-
-        for (int i = 0, n = this.intervals.size(); i < n; i++) {
-            ChronoInterval<T> minuend = this.intervals.get(i);
-            IntervalCollection<T> diff = subtrahend.withComplement(minuend);
-
-            if (!diff.isEmpty()) {
-                parts.addAll(diff.intervals);
-            }
-        }
-
-        parts.sort(this.getComparator());
-        return this.create(parts);
+        return this.subtract(list);
 
     }
 
@@ -865,7 +870,7 @@ public abstract class IntervalCollection<T>
             return this.create(zero);
         }
 
-        return this.minus(other.getIntervals());
+        return this.subtract(other.intervals); // already sorted and adjusted
 
     }
 
@@ -1119,53 +1124,7 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        Boundary<T> s;
-        Boundary<T> e;
-
-        boolean calendrical = this.isCalendrical();
-        IntervalEdge edge = (
-            calendrical
-            ? IntervalEdge.CLOSED
-            : IntervalEdge.OPEN);
-
-        List<ChronoInterval<T>> gaps = this.withGaps().intervals;
-        List<ChronoInterval<T>> blocks = new ArrayList<>();
-        T start = this.getMinimum();
-
-        for (int i = 0, n = gaps.size(); i < n; i++) {
-            T end = gaps.get(i).getStart().getTemporal();
-
-            if (calendrical) {
-                end = this.getTimeLine().stepBackwards(end);
-            }
-
-            s = this.createStartBoundary(start);
-            e = Boundary.of(edge, end);
-            blocks.add(this.newInterval(s, e));
-
-            Boundary<T> b = gaps.get(i).getEnd();
-            start = b.getTemporal();
-
-            if (b.isClosed()) {
-                start = this.getTimeLine().stepForward(start);
-            }
-        }
-
-        T max = this.getMaximum();
-        s = this.createStartBoundary(start);
-
-        if ((max != null) && !calendrical) {
-            max = this.getTimeLine().stepForward(max);
-        }
-
-        if (max == null) {
-            e = Boundary.infiniteFuture();
-        } else {
-            e = Boundary.of(edge, max);
-        }
-
-        blocks.add(this.newInterval(s, e));
-        return this.create(blocks);
+        return this.create(this.sweep().toBlocks(this.intervals));
 
     }
 
@@ -1348,23 +1307,7 @@ public abstract class IntervalCollection<T>
             return this.create(zero);
         }
 
-        List<ChronoInterval<T>> list = new ArrayList<>();
-
-        for (ChronoInterval<T> a : this.intervals) {
-            for (ChronoInterval<T> b : other.intervals) {
-                List<ChronoInterval<T>> candidates = new ArrayList<>(2);
-                candidates.add(a);
-                candidates.add(b);
-                candidates.sort(this.getComparator());
-                candidates = this.intersect(candidates);
-                if (!candidates.isEmpty()) {
-                    list.addAll(candidates);
-                }
-            }
-        }
-
-        list.sort(this.getComparator());
-        return this.create(list).withBlocks();
+        return this.create(this.sweep().intersect(this.intervals, other.intervals));
 
     }
 
@@ -1392,50 +1335,35 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
-        T min1 = this.getMinimum();
-        T max1 = this.getMaximum();
-        T min2 = other.getMinimum();
-        T max2 = other.getMaximum();
-
-        T min;
-        T max;
-
-        if ((min1 == null) || (min2 == null)) {
-            min = null;
-        } else {
-            min = (this.isAfter(min1, min2) ? min2 : min1);
-        }
-
-        if ((max1 == null) || (max2 == null)) {
-            max = null;
-        } else {
-            max = (this.isBefore(max1, max2) ? max2 : max1);
-        }
+        return this.create(this.sweep().xor(this.intervals, other.intervals));
 
-        Boundary<T> start = this.createStartBoundary(min);
-        Boundary<T> end;
+    }
 
-        if (max == null) {
-            end = Boundary.infiniteFuture();
-        } else if (this.isCalendrical()) {
-            end = Boundary.ofClosed(max);
-        } else {
-            max = this.getTimeLine().stepForward(max);
-            if (max == null) {
-                end = Boundary.infiniteFuture();
-            } else {
-                end = Boundary.ofOpen(max);
-            }
-        }
+    /**
+     * <p>Yields a streaming engine for set operations on large sequences of sorted intervals
+     * on the same time axis as this collection. </p>
+     *
+     * <p>The intervals contained in this collection are not relevant for the engine. The engine
+     * is suitable if the intervals are not yet collected but only available as sorted iterator,
+     * for example when reading from a database cursor. </p>
+     *
+     * @return  sweep-line engine bound to the time axis of this collection
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert eine Maschine f&uuml;r Mengenoperationen auf gro&szlig;en Folgen von sortierten
+     * Intervallen auf der gleichen Zeitachse wie diese Intervallmenge. </p>
+     *
+     * <p>Die in dieser Intervallmenge enthaltenen Intervalle spielen f&uuml;r die Maschine keine
+     * Rolle. Die Maschine ist geeignet, wenn die Intervalle noch nicht gesammelt, sondern nur als
+     * sortierter Iterator verf&uuml;gbar sind, zum Beispiel beim Lesen eines Datenbank-Cursors. </p>
+     *
+     * @return  sweep-line engine bound to the time axis of this collection
+     * @since   5.6
+     */
+    public IntervalSweep<T> sweep() {
 
-        ChronoInterval<T> window = this.newInterval(start, end);
-        List<ChronoInterval<T>> list = new ArrayList<>();
-        IntervalCollection<T> ic1 = this.withComplement(window).intersect(other);
-        IntervalCollection<T> ic2 = other.withComplement(window).intersect(this);
-        list.addAll(ic1.getIntervals());
-        list.addAll(ic2.getIntervals());
-        list.sort(this.getComparator());
-        return this.create(list).withBlocks();
+        return new IntervalSweep<>(this);
 
     }
 
@@ -1622,6 +1550,18 @@ public abstract class IntervalCollection<T>
 
     }
 
+    private IntervalCollection<T> subtract(List<ChronoInterval<T>> subtrahend) {
+
+        if (subtrahend.isEmpty()) {
+            return this;
+        }
+
+        List<ChronoInterval<T>> parts = new ArrayList<>(this.sweep().subtract(this.intervals, subtrahend));
+        parts.sort(this.getComparator());
+        return this.create(parts);
+
+    }
+
     private Boundary<T> createStartBoundary(T start) {
 
         if (start == null) {
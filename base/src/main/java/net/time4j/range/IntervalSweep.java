@@ -0,0 +1,1351 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalSweep.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.engine.TimeLine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * <p>Sweep-line engine for set operations on sequences of intervals which are sorted by their start. </p>
+ *
+ * <p>All operations consume iterators and produce their results lazily so that arbitrary large
+ * sequences of intervals can be processed with constant memory. The input iterators must deliver
+ * the intervals in ascending order of their start (for example ordered by the
+ * {@link DateInterval#comparator() comparator} of the interval type) otherwise an
+ * {@code IllegalArgumentException} will be thrown during iteration. Empty intervals are ignored.
+ * The results always consist of disjunct blocks which neither overlap nor meet each other and
+ * are sorted in ascending order. </p>
+ *
+ * <p>Example for determining the free windows within a day: </p>
+ *
+ * <pre>
+ *  IntervalSweep&lt;Moment&gt; sweep = IntervalCollection.onMomentAxis().sweep();
+ *  Iterator&lt;ChronoInterval&lt;Moment&gt;&gt; free =
+ *      sweep.minus(Collections.singletonList(day).iterator(), reservations.iterator());
+ * </pre>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     IntervalCollection#sweep()
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Sweep-Line-Maschine f&uuml;r Mengenoperationen auf Folgen von Intervallen, die nach ihrem
+ * Start sortiert sind. </p>
+ *
+ * <p>Alle Operationen verarbeiten Iteratoren und erzeugen ihre Ergebnisse erst bei Bedarf, so
+ * da&szlig; beliebig gro&szlig;e Intervallfolgen mit konstantem Speicherbedarf bearbeitet werden
+ * k&ouml;nnen. Die Eingabe-Iteratoren m&uuml;ssen die Intervalle aufsteigend nach ihrem Start
+ * liefern (zum Beispiel sortiert nach dem {@link DateInterval#comparator() Comparator} des
+ * Intervalltyps), sonst wird w&auml;hrend der Iteration eine {@code IllegalArgumentException}
+ * geworfen. Leere Intervalle werden ignoriert. Die Ergebnisse bestehen immer aus disjunkten
+ * Bl&ouml;cken, die sich weder &uuml;berlappen noch ber&uuml;hren, und sind aufsteigend
+ * sortiert. </p>
+ *
+ * <p>Beispiel zur Bestimmung der freien Zeitfenster innerhalb eines Tages: </p>
+ *
+ * <pre>
+ *  IntervalSweep&lt;Moment&gt; sweep = IntervalCollection.onMomentAxis().sweep();
+ *  Iterator&lt;ChronoInterval&lt;Moment&gt;&gt; free =
+ *      sweep.minus(Collections.singletonList(day).iterator(), reservations.iterator());
+ * </pre>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     IntervalCollection#sweep()
+ * @doctags.concurrency {immutable}
+ */
+public final class IntervalSweep<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // Mindestgröße von Teilaufgaben bei paralleler Verarbeitung
+    private static final int PARALLEL_THRESHOLD = 8192;
+
+    // Markierung für ein exklusives Ende direkt nach dem Maximum (geschlossenes Ende beim Maximum)
+    private static final Object AFTER_MAX = new Object();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final IntervalCollection<T> axis;
+    private final TimeLine<T> timeLine;
+    private final boolean calendrical;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    IntervalSweep(IntervalCollection<T> axis) {
+        super();
+
+        this.axis = axis;
+        this.timeLine = axis.getTimeLine();
+        this.calendrical = axis.isCalendrical();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Combines the given sorted intervals to disjunct blocks. </p>
+     *
+     * @param   sorted      intervals sorted by their start
+     * @return  lazy iterator over disjunct merged blocks
+     * @see     IntervalCollection#withBlocks()
+     */
+    /*[deutsch]
+     * <p>Kombiniert die angegebenen sortierten Intervalle zu disjunkten Bl&ouml;cken. </p>
+     *
+     * @param   sorted      intervals sorted by their start
+     * @return  lazy iterator over disjunct merged blocks
+     * @see     IntervalCollection#withBlocks()
+     */
+    public Iterator<ChronoInterval<T>> blocks(Iterator<? extends ChronoInterval<T>> sorted) {
+
+        return new Output(new Blocks(new Input(sorted)));
+
+    }
+
+    /**
+     * <p>Determines the gaps between the blocks of given sorted intervals. </p>
+     *
+     * @param   sorted      intervals sorted by their start
+     * @return  lazy iterator over all inner gaps
+     * @see     IntervalCollection#withGaps()
+     */
+    /*[deutsch]
+     * <p>Ermittelt die L&uuml;cken zwischen den Bl&ouml;cken der angegebenen sortierten Intervalle. </p>
+     *
+     * @param   sorted      intervals sorted by their start
+     * @return  lazy iterator over all inner gaps
+     * @see     IntervalCollection#withGaps()
+     */
+    public Iterator<ChronoInterval<T>> gaps(Iterator<? extends ChronoInterval<T>> sorted) {
+
+        return new Output(new Gaps(new Blocks(new Input(sorted))));
+
+    }
+
+    /**
+     * <p>Determines the union of both sorted interval sequences. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks containing all time points of both sequences
+     * @see     IntervalCollection#union(IntervalCollection)
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Vereinigungsmenge beider sortierter Intervallfolgen. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks containing all time points of both sequences
+     * @see     IntervalCollection#union(IntervalCollection)
+     */
+    public Iterator<ChronoInterval<T>> union(
+        Iterator<? extends ChronoInterval<T>> first,
+        Iterator<? extends ChronoInterval<T>> second
+    ) {
+
+        return new Output(new Blocks(new Merge(new Input(first), new Input(second))));
+
+    }
+
+    /**
+     * <p>Determines the intersection of both sorted interval sequences. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks containing all time points which are in both sequences
+     * @see     IntervalCollection#intersect(IntervalCollection)
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Schnittmenge beider sortierter Intervallfolgen. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks containing all time points which are in both sequences
+     * @see     IntervalCollection#intersect(IntervalCollection)
+     */
+    public Iterator<ChronoInterval<T>> intersect(
+        Iterator<? extends ChronoInterval<T>> first,
+        Iterator<? extends ChronoInterval<T>> second
+    ) {
+
+        return new Output(new Intersection(new Blocks(new Input(first)), new Blocks(new Input(second))));
+
+    }
+
+    /**
+     * <p>Determines all time points of the first sequence which are not in the second sequence. </p>
+     *
+     * @param   minuend     intervals sorted by their start
+     * @param   subtrahend  intervals sorted by their start to be subtracted
+     * @return  lazy iterator over disjunct blocks of the difference
+     */
+    /*[deutsch]
+     * <p>Ermittelt alle Zeitpunkte der ersten Folge, die nicht in der zweiten Folge liegen. </p>
+     *
+     * @param   minuend     intervals sorted by their start
+     * @param   subtrahend  intervals sorted by their start to be subtracted
+     * @return  lazy iterator over disjunct blocks of the difference
+     */
+    public Iterator<ChronoInterval<T>> minus(
+        Iterator<? extends ChronoInterval<T>> minuend,
+        Iterator<? extends ChronoInterval<T>> subtrahend
+    ) {
+
+        return new Output(new Difference(new Blocks(new Input(minuend)), new Blocks(new Input(subtrahend))));
+
+    }
+
+    /**
+     * <p>Determines all time points which are either in the first <i>xor</i> in the second sequence. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks of the symmetric difference
+     * @see     IntervalCollection#xor(IntervalCollection)
+     */
+    /*[deutsch]
+     * <p>Ermittelt alle Zeitpunkte, die entweder in der ersten oder in der zweiten Folge liegen. </p>
+     *
+     * @param   first       intervals sorted by their start
+     * @param   second      intervals sorted by their start
+     * @return  lazy iterator over disjunct blocks of the symmetric difference
+     * @see     IntervalCollection#xor(IntervalCollection)
+     */
+    public Iterator<ChronoInterval<T>> xor(
+        Iterator<? extends ChronoInterval<T>> first,
+        Iterator<? extends ChronoInterval<T>> second
+    ) {
+
+        Cursor<Span<T>> a = new Blocks(new Input(first));
+        Cursor<Span<T>> b = new Blocks(new Input(second));
+        return new Output(new Blocks(new SymmetricDifference(a, b)));
+
+    }
+
+    /**
+     * <p>Mischt zwei sortierte Listen in linearer Zeit, wobei bei Gleichheit die erste Liste Vorrang hat. </p>
+     *
+     * @param   first       sorted list
+     * @param   second      sorted list
+     * @param   comparator  sort order of both lists
+     * @return  new sorted list
+     */
+    static <T> List<ChronoInterval<T>> merge(
+        List<ChronoInterval<T>> first,
+        List<ChronoInterval<T>> second,
+        Comparator<ChronoInterval<T>> comparator
+    ) {
+
+        int n1 = first.size();
+        int n2 = second.size();
+        List<ChronoInterval<T>> result = new ArrayList<>(n1 + n2);
+        int i = 0;
+        int j = 0;
+
+        while ((i < n1) && (j < n2)) {
+            ChronoInterval<T> a = first.get(i);
+            ChronoInterval<T> b = second.get(j);
+
+            if (comparator.compare(b, a) < 0) {
+                result.add(b);
+                j++;
+            } else {
+                result.add(a);
+                i++;
+            }
+        }
+
+        while (i < n1) {
+            result.add(first.get(i++));
+        }
+
+        while (j < n2) {
+            result.add(second.get(j++));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Bestimmt die disjunkten Bl&ouml;cke einer sortierten Liste, bei gro&szlig;en Listen parallel. </p>
+     *
+     * @param   sorted      list of non-empty intervals sorted by their start
+     * @return  new list of disjunct blocks
+     */
+    List<ChronoInterval<T>> toBlocks(List<ChronoInterval<T>> sorted) {
+
+        return this.toIntervals(this.blockSpans(sorted));
+
+    }
+
+    /**
+     * <p>Bestimmt die Schnittmenge zweier sortierter Listen, bei gro&szlig;en Listen parallel. </p>
+     *
+     * @param   first       list of non-empty intervals sorted by their start
+     * @param   second      list of non-empty intervals sorted by their start
+     * @return  new list of disjunct blocks
+     */
+    List<ChronoInterval<T>> intersect(
+        List<ChronoInterval<T>> first,
+        List<ChronoInterval<T>> second
+    ) {
+
+        List<Span<T>> a = this.blockSpans(first);
+        List<Span<T>> b = this.blockSpans(second);
+
+        if (a.size() < b.size()) {
+            List<Span<T>> tmp = a;
+            a = b;
+            b = tmp;
+        }
+
+        List<Span<T>> result;
+
+        if (a.size() > PARALLEL_THRESHOLD) {
+            result = ForkJoinPool.commonPool().invoke(new SweepTask<>(this, SweepTask.INTERSECT, a, b, 0, a.size()));
+        } else {
+            result = this.intersectRange(a, b, 0, a.size());
+        }
+
+        return this.toIntervals(result);
+
+    }
+
+    /**
+     * <p>Subtrahiert von jedem Intervall der ersten Liste alle Zeitpunkte der zweiten Liste. </p>
+     *
+     * <p>Minuenden ohne &Uuml;berlappung werden unver&auml;ndert &uuml;bernommen. Das Ergebnis ist
+     * noch nicht sortiert. </p>
+     *
+     * @param   minuends    list of non-empty intervals sorted by their start
+     * @param   subtrahend  list of non-empty intervals sorted by their start
+     * @return  new unsorted list of remaining parts
+     */
+    List<ChronoInterval<T>> subtract(
+        List<ChronoInterval<T>> minuends,
+        List<ChronoInterval<T>> subtrahend
+    ) {
+
+        List<Span<T>> a = this.toSpans(minuends, 0, minuends.size());
+        List<Span<T>> b = this.blockSpans(subtrahend);
+        List<Span<T>> result;
+
+        if (a.size() > PARALLEL_THRESHOLD) {
+            result = ForkJoinPool.commonPool().invoke(new SweepTask<>(this, SweepTask.SUBTRACT, a, b, 0, a.size()));
+        } else {
+            result = this.subtractRange(a, b, 0, a.size());
+        }
+
+        return this.toIntervals(result);
+
+    }
+
+    /**
+     * <p>Bestimmt die symmetrische Differenz zweier sortierter Listen. </p>
+     *
+     * @param   first       list of non-empty intervals sorted by their start
+     * @param   second      list of non-empty intervals sorted by their start
+     * @return  new list of disjunct blocks
+     */
+    List<ChronoInterval<T>> xor(
+        List<ChronoInterval<T>> first,
+        List<ChronoInterval<T>> second
+    ) {
+
+        List<Span<T>> a = this.blockSpans(first);
+        List<Span<T>> b = this.blockSpans(second);
+        Cursor<Span<T>> cursor = new Blocks(new SymmetricDifference(new ListCursor<>(a), new ListCursor<>(b)));
+        List<Span<T>> result = new ArrayList<>();
+        Span<T> span;
+
+        while ((span = cursor.next()) != null) {
+            result.add(span);
+        }
+
+        return this.toIntervals(result);
+
+    }
+
+    private List<Span<T>> blockSpans(List<ChronoInterval<T>> sorted) {
+
+        int n = sorted.size();
+
+        if (n > PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new SweepTask<>(this, SweepTask.BLOCKS, sorted, null, 0, n));
+        } else {
+            return this.blockRange(sorted, 0, n);
+        }
+
+    }
+
+    private List<Span<T>> blockRange(
+        List<ChronoInterval<T>> sorted,
+        int start,
+        int end
+    ) {
+
+        Cursor<Span<T>> cursor = new Blocks(new ListCursor<>(this.toSpans(sorted, start, end)));
+        List<Span<T>> result = new ArrayList<>();
+        Span<T> span;
+
+        while ((span = cursor.next()) != null) {
+            result.add(span);
+        }
+
+        return result;
+
+    }
+
+    // verschmilzt die Blöcke zweier benachbarter Teilbereiche, die rechten Blöcke beginnen nicht früher
+    private List<Span<T>> joinBlocks(
+        List<Span<T>> left,
+        List<Span<T>> right
+    ) {
+
+        if (left.isEmpty()) {
+            return right;
+        }
+
+        int last = left.size() - 1;
+        Span<T> current = left.get(last);
+        int i = 0;
+        int n = right.size();
+
+        while ((i < n) && !this.isGap(current.end, right.get(i).start)) {
+            current = new Span<>(current.start, this.maxEnd(current.end, right.get(i).end), null);
+            i++;
+        }
+
+        List<Span<T>> result = new ArrayList<>(left.size() + n - i);
+        result.addAll(left.subList(0, last));
+        result.add(current);
+        result.addAll(right.subList(i, n));
+        return result;
+
+    }
+
+    private List<Span<T>> intersectRange(
+        List<Span<T>> blocks,
+        List<Span<T>> others,
+        int start,
+        int end
+    ) {
+
+        if (start >= end) {
+            return new ArrayList<>();
+        }
+
+        int j = this.searchEnd(others, blocks.get(start).start);
+        Cursor<Span<T>> cursor =
+            new Intersection(new ListCursor<>(blocks.subList(start, end)), new ListCursor<>(others, j));
+        List<Span<T>> result = new ArrayList<>();
+        Span<T> span;
+
+        while ((span = cursor.next()) != null) {
+            result.add(span);
+        }
+
+        return result;
+
+    }
+
+    private List<Span<T>> subtractRange(
+        List<Span<T>> minuends,
+        List<Span<T>> blocks,
+        int start,
+        int end
+    ) {
+
+        List<Span<T>> result = new ArrayList<>();
+
+        if (start >= end) {
+            return result;
+        }
+
+        int j = this.searchEnd(blocks, minuends.get(start).start);
+        int n = blocks.size();
+
+        for (int i = start; i < end; i++) {
+            Span<T> minuend = minuends.get(i);
+
+            // Minuenden sind nach Start sortiert, also wird j nie zurückgesetzt
+            while ((j < n) && this.isAfterEnd(minuend.start, blocks.get(j).end)) {
+                j++;
+            }
+
+            if ((j == n) || !this.isBefore(blocks.get(j).start, minuend.end)) {
+                result.add(minuend); // no overlap
+                continue;
+            }
+
+            T s = minuend.start;
+
+            for (int k = j; k < n; k++) {
+                Span<T> block = blocks.get(k);
+
+                if (!this.isBefore(block.start, minuend.end)) {
+                    break;
+                } else if (this.compareStart(s, block.start) < 0) {
+                    result.add(new Span<>(s, block.start, null));
+                }
+
+                s = block.end;
+
+                if ((s == null) || !this.isBefore(s, minuend.end)) {
+                    s = null;
+                    break;
+                }
+            }
+
+            if (s != null) {
+                result.add(new Span<>(s, minuend.end, null));
+            }
+        }
+
+        return result;
+
+    }
+
+    // Index des ersten Blocks, der nach dem angegebenen Zeitpunkt endet (Blöcke sind disjunkt und sortiert)
+    private int searchEnd(
+        List<Span<T>> blocks,
+        T time
+    ) {
+
+        int low = 0;
+        int high = blocks.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (this.isAfterEnd(time, blocks.get(mid).end)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private List<Span<T>> toSpans(
+        List<ChronoInterval<T>> intervals,
+        int start,
+        int end
+    ) {
+
+        List<Span<T>> spans = new ArrayList<>(end - start);
+
+        for (int i = start; i < end; i++) {
+            ChronoInterval<T> interval = intervals.get(i);
+            Span<T> span = this.toSpan(interval);
+
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+
+        return spans;
+
+    }
+
+    private List<ChronoInterval<T>> toIntervals(List<Span<T>> spans) {
+
+        if (spans.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ChronoInterval<T>> intervals = new ArrayList<>(spans.size());
+
+        for (Span<T> span : spans) {
+            intervals.add(this.toInterval(span));
+        }
+
+        return intervals;
+
+    }
+
+    // liefert null, wenn das Intervall leer ist
+    private Span<T> toSpan(ChronoInterval<T> interval) {
+
+        Boundary<T> bs = interval.getStart();
+        Boundary<T> be = interval.getEnd();
+        T start = null;
+        T end = null;
+
+        if (!bs.isInfinite()) {
+            start = bs.getTemporal();
+
+            if (bs.isOpen()) {
+                start = this.timeLine.stepForward(start);
+
+                if (start == null) {
+                    throw new IllegalArgumentException("Interval start with open maximum: " + interval);
+                }
+            }
+        }
+
+        if (!be.isInfinite()) {
+            end = be.getTemporal();
+
+            if (be.isClosed()) {
+                end = this.timeLine.stepForward(end);
+
+                if (end == null) {
+                    end = this.afterMaximum(); // closed at maximum, not infinite
+                }
+            }
+        }
+
+        if (this.isAfterEnd(start, end)) {
+            return null;
+        }
+
+        return new Span<>(start, end, interval);
+
+    }
+
+    private ChronoInterval<T> toInterval(Span<T> span) {
+
+        if (span.source != null) {
+            return span.source;
+        }
+
+        Boundary<T> s = (span.start == null) ? Boundary.infinitePast() : Boundary.ofClosed(span.start);
+        Boundary<T> e;
+
+        if (span.end == null) {
+            e = Boundary.infiniteFuture();
+        } else if (span.end == AFTER_MAX) {
+            e = Boundary.ofClosed(this.timeLine.getMaximum());
+        } else if (this.calendrical) {
+            e = Boundary.ofClosed(this.timeLine.stepBackwards(span.end));
+        } else {
+            e = Boundary.ofOpen(span.end);
+        }
+
+        return this.axis.newInterval(s, e);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private T afterMaximum() {
+
+        return (T) AFTER_MAX;
+
+    }
+
+    private Span<T> normalized(Span<T> span) {
+
+        return (span.source == null) ? span : new Span<>(span.start, span.end, null);
+
+    }
+
+    // Vergleich von Startzeitpunkten (null = unendliche Vergangenheit)
+    private int compareStart(
+        T s1,
+        T s2
+    ) {
+
+        if (s1 == null) {
+            return ((s2 == null) ? 0 : -1);
+        } else if (s2 == null) {
+            return 1;
+        }
+
+        return this.timeLine.compare(s1, s2);
+
+    }
+
+    // Vergleich von exklusiven Endzeitpunkten (null = unendliche Zukunft, AFTER_MAX = gleiche Zeitpunkte)
+    private int compareEnd(
+        T e1,
+        T e2
+    ) {
+
+        boolean top1 = ((e1 == null) || (e1 == AFTER_MAX));
+        boolean top2 = ((e2 == null) || (e2 == AFTER_MAX));
+
+        if (top1) {
+            return (top2 ? 0 : 1);
+        } else if (top2) {
+            return -1;
+        }
+
+        return this.timeLine.compare(e1, e2);
+
+    }
+
+    private T maxStart(
+        T s1,
+        T s2
+    ) {
+
+        return ((this.compareStart(s1, s2) >= 0) ? s1 : s2);
+
+    }
+
+    // bei gleichen Zeitpunkten gewinnt das unendliche Ende
+    private T maxEnd(
+        T e1,
+        T e2
+    ) {
+
+        int delta = this.compareEnd(e1, e2);
+        return (((delta > 0) || ((delta == 0) && (e2 != null))) ? e1 : e2);
+
+    }
+
+    // bei gleichen Zeitpunkten gewinnt das endliche Ende
+    private T minEnd(
+        T e1,
+        T e2
+    ) {
+
+        int delta = this.compareEnd(e1, e2);
+        return (((delta < 0) || ((delta == 0) && (e1 != null))) ? e1 : e2);
+
+    }
+
+    // Start liegt nicht vor dem exklusiven Ende?
+    private boolean isAfterEnd(
+        T start,
+        T end
+    ) {
+
+        if (start == AFTER_MAX) {
+            return true; // nothing exists after the maximum
+        } else if ((start == null) || (end == null) || (end == AFTER_MAX)) {
+            return false;
+        }
+
+        return (this.timeLine.compare(start, end) >= 0);
+
+    }
+
+    // Start liegt vor dem exklusiven Ende?
+    private boolean isBefore(
+        T start,
+        T end
+    ) {
+
+        return !this.isAfterEnd(start, end);
+
+    }
+
+    // Lücke zwischen exklusivem Ende und folgendem Start?
+    private boolean isGap(
+        T end,
+        T start
+    ) {
+
+        return (end != null) && (end != AFTER_MAX) && (start != null) && (this.timeLine.compare(start, end) > 0);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Normalisierte Darstellung eines Intervalls mit inklusivem Start und exklusivem Ende. </p>
+     */
+    private static final class Span<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final T start; // null = infinite past
+        private final T end; // null = infinite future, AFTER_MAX = closed at maximum
+        private final ChronoInterval<T> source; // unchanged original interval or null
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Span(
+            T start,
+            T end,
+            ChronoInterval<T> source
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.source = source;
+
+        }
+
+    }
+
+    /**
+     * <p>Einfacher Zeiger auf eine Folge, der am Ende {@code null} liefert. </p>
+     */
+    private interface Cursor<E> {
+
+        E next();
+
+    }
+
+    private static final class ListCursor<E>
+        implements Cursor<E> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<E> list;
+        private int index;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ListCursor(List<E> list) {
+            this(list, 0);
+        }
+
+        ListCursor(
+            List<E> list,
+            int index
+        ) {
+            super();
+
+            this.list = list;
+            this.index = index;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public E next() {
+
+            return ((this.index < this.list.size()) ? this.list.get(this.index++) : null);
+
+        }
+
+    }
+
+    private class Input
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Iterator<? extends ChronoInterval<T>> source;
+        private Span<T> previous = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Input(Iterator<? extends ChronoInterval<T>> source) {
+            super();
+
+            if (source == null) {
+                throw new NullPointerException("Missing interval iterator.");
+            }
+
+            this.source = source;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            while (this.source.hasNext()) {
+                ChronoInterval<T> interval = this.source.next();
+                Span<T> span = toSpan(interval);
+
+                if (span != null) {
+                    if ((this.previous != null) && (compareStart(this.previous.start, span.start) > 0)) {
+                        throw new IllegalArgumentException("Intervals not sorted by start: " + interval);
+                    }
+
+                    this.previous = span;
+                    return span;
+                }
+            }
+
+            return null;
+
+        }
+
+    }
+
+    private class Merge
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> first;
+        private final Cursor<Span<T>> second;
+        private Span<T> a;
+        private Span<T> b;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Merge(
+            Cursor<Span<T>> first,
+            Cursor<Span<T>> second
+        ) {
+            super();
+
+            this.first = first;
+            this.second = second;
+            this.a = first.next();
+            this.b = second.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            Span<T> result;
+
+            if ((this.a == null) || ((this.b != null) && (compareStart(this.b.start, this.a.start) < 0))) {
+                result = this.b;
+                this.b = ((result == null) ? null : this.second.next());
+            } else {
+                result = this.a;
+                this.a = this.first.next();
+            }
+
+            return result;
+
+        }
+
+    }
+
+    private class Blocks
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> source;
+        private Span<T> pending;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Blocks(Cursor<Span<T>> source) {
+            super();
+
+            this.source = source;
+            this.pending = source.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            Span<T> current = this.pending;
+
+            if (current == null) {
+                return null;
+            }
+
+            T end = current.end;
+            boolean merged = false;
+            Span<T> span;
+
+            while (((span = this.source.next()) != null) && !isGap(end, span.start)) {
+                end = maxEnd(end, span.end);
+                merged = true;
+            }
+
+            this.pending = span;
+            return (merged ? new Span<>(current.start, end, null) : normalized(current));
+
+        }
+
+    }
+
+    private class Gaps
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> blocks;
+        private Span<T> previous;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Gaps(Cursor<Span<T>> blocks) {
+            super();
+
+            this.blocks = blocks;
+            this.previous = blocks.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            if ((this.previous == null) || (this.previous.end == null) || (this.previous.end == AFTER_MAX)) {
+                return null;
+            }
+
+            Span<T> current = this.blocks.next();
+
+            if (current == null) {
+                return null;
+            }
+
+            Span<T> gap = new Span<>(this.previous.end, current.start, null);
+            this.previous = current;
+            return gap;
+
+        }
+
+    }
+
+    private class Intersection
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> first;
+        private final Cursor<Span<T>> second;
+        private Span<T> a;
+        private Span<T> b;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Intersection(
+            Cursor<Span<T>> first,
+            Cursor<Span<T>> second
+        ) {
+            super();
+
+            this.first = first;
+            this.second = second;
+            this.a = first.next();
+            this.b = second.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            while ((this.a != null) && (this.b != null)) {
+                T s = maxStart(this.a.start, this.b.start);
+                T e = minEnd(this.a.end, this.b.end);
+                int delta = compareEnd(this.a.end, this.b.end);
+
+                if (delta <= 0) {
+                    this.a = this.first.next();
+                }
+                if (delta >= 0) {
+                    this.b = this.second.next();
+                }
+
+                if (isBefore(s, e)) {
+                    return new Span<>(s, e, null);
+                }
+            }
+
+            return null;
+
+        }
+
+    }
+
+    private class Difference
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> minuend;
+        private final Cursor<Span<T>> subtrahend;
+        private Span<T> a;
+        private Span<T> b;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Difference(
+            Cursor<Span<T>> minuend,
+            Cursor<Span<T>> subtrahend
+        ) {
+            super();
+
+            this.minuend = minuend;
+            this.subtrahend = subtrahend;
+            this.a = minuend.next();
+            this.b = subtrahend.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            while (this.a != null) {
+                while ((this.b != null) && isAfterEnd(this.a.start, this.b.end)) {
+                    this.b = this.subtrahend.next();
+                }
+
+                if ((this.b == null) || !isBefore(this.b.start, this.a.end)) {
+                    Span<T> result = this.a;
+                    this.a = this.minuend.next();
+                    return result;
+                }
+
+                Span<T> result = null;
+
+                if (compareStart(this.a.start, this.b.start) < 0) {
+                    result = new Span<>(this.a.start, this.b.start, null);
+                }
+
+                if (compareEnd(this.b.end, this.a.end) < 0) {
+                    this.a = new Span<>(this.b.end, this.a.end, null);
+                } else {
+                    this.a = this.minuend.next();
+                }
+
+                if (result != null) {
+                    return result;
+                }
+            }
+
+            return null;
+
+        }
+
+    }
+
+    private class SymmetricDifference
+        implements Cursor<Span<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> first;
+        private final Cursor<Span<T>> second;
+        private Span<T> a;
+        private Span<T> b;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SymmetricDifference(
+            Cursor<Span<T>> first,
+            Cursor<Span<T>> second
+        ) {
+            super();
+
+            this.first = first;
+            this.second = second;
+            this.a = first.next();
+            this.b = second.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Span<T> next() {
+
+            while (true) {
+                if (this.a == null) {
+                    Span<T> result = this.b;
+                    this.b = ((result == null) ? null : this.second.next());
+                    return result;
+                } else if (this.b == null) {
+                    Span<T> result = this.a;
+                    this.a = this.first.next();
+                    return result;
+                } else if (!isBefore(this.b.start, this.a.end)) {
+                    Span<T> result = this.a;
+                    this.a = this.first.next();
+                    return result;
+                } else if (!isBefore(this.a.start, this.b.end)) {
+                    Span<T> result = this.b;
+                    this.b = this.second.next();
+                    return result;
+                }
+
+                // overlapping: emit the leading part and cut off the common part
+                Span<T> result = null;
+                int delta = compareStart(this.a.start, this.b.start);
+
+                if (delta < 0) {
+                    result = new Span<>(this.a.start, this.b.start, null);
+                } else if (delta > 0) {
+                    result = new Span<>(this.b.start, this.a.start, null);
+                }
+
+                int cmp = compareEnd(this.a.end, this.b.end);
+
+                if (cmp < 0) {
+                    this.b = new Span<>(this.a.end, this.b.end, null);
+                    this.a = this.first.next();
+                } else if (cmp > 0) {
+                    this.a = new Span<>(this.b.end, this.a.end, null);
+                    this.b = this.second.next();
+                } else {
+                    this.a = this.first.next();
+                    this.b = this.second.next();
+                }
+
+                if (result != null) {
+                    return result;
+                }
+            }
+
+        }
+
+    }
+
+    private class Output
+        implements Iterator<ChronoInterval<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Cursor<Span<T>> source;
+        private Span<T> next;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Output(Cursor<Span<T>> source) {
+            super();
+
+            this.source = source;
+            this.next = source.next();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+
+            return (this.next != null);
+
+        }
+
+        @Override
+        public ChronoInterval<T> next() {
+
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+
+            Span<T> span = this.next;
+            this.next = this.source.next();
+            return toInterval(span);
+
+        }
+
+    }
+
+    private static final class SweepTask<T>
+        extends RecursiveTask<List<Span<T>>> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int BLOCKS = 0;
+        private static final int INTERSECT = 1;
+        private static final int SUBTRACT = 2;
+
+        private static final long serialVersionUID = 1L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private transient final IntervalSweep<T> sweep;
+        private final int operation;
+        private transient final List<?> input;
+        private transient final List<Span<T>> others;
+        private final int start;
+        private final int end;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SweepTask(
+            IntervalSweep<T> sweep,
+            int operation,
+            List<?> input,
+            List<Span<T>> others,
+            int start,
+            int end
+        ) {
+            super();
+
+            this.sweep = sweep;
+            this.operation = operation;
+            this.input = input;
+            this.others = others;
+            this.start = start;
+            this.end = end;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected List<Span<T>> compute() {
+
+            if (this.end - this.start <= PARALLEL_THRESHOLD) {
+                switch (this.operation) {
+                    case BLOCKS:
+                        return this.sweep.blockRange((List<ChronoInterval<T>>) this.input, this.start, this.end);
+                    case INTERSECT:
+                        return this.sweep.intersectRange((List<Span<T>>) this.input, this.others, this.start, this.end);
+                    default:
+                        return this.sweep.subtractRange((List<Span<T>>) this.input, this.others, this.start, this.end);
+                }
+            }
+
+            int mid = (this.start + this.end) >>> 1;
+            SweepTask<T> left = new SweepTask<>(this.sweep, this.operation, this.input, this.others, this.start, mid);
+            SweepTask<T> right = new SweepTask<>(this.sweep, this.operation, this.input, this.others, mid, this.end);
+            left.fork();
+            List<Span<T>> r = right.compute();
+            List<Span<T>> l = left.join();
+
+            if (this.operation == BLOCKS) {
+                return this.sweep.joinBlocks(l, r);
+            }
+
+            List<Span<T>> result = new ArrayList<>(l.size() + r.size());
+            result.addAll(l);
+            result.addAll(r);
+            return result;
+
+        }
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (IntervalTree.java) is part of project Time4J.
  *
@@ -87,22 +87,38 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             throw new NullPointerException("Missing timeline.");
         }
 
-        Node<T, I> r = null;
+        List<I> sorted = new ArrayList<>();
         int count = 0;
 
         for (I interval : intervals) {
             if (!interval.isEmpty()) {
-                r = insert(r, interval, timeLine);
+                sorted.add(interval);
                 count = Math.incrementExact(count);
             }
         }
 
-        this.root = r;
+        // stable sort keeps insertion order of intervals with equal start
+        sorted.sort((i1, i2) -> compareAtStart(i1.getStart(), i2.getStart(), timeLine));
+
+        this.root = build(sorted, 0, count, timeLine);
         this.size = count;
         this.timeLine = timeLine;
 
     }
 
+    private IntervalTree(
+        Node<T, I> root,
+        int size,
+        TimeLine<T> timeLine
+    ) {
+        super();
+
+        this.root = root;
+        this.size = size;
+        this.timeLine = timeLine;
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -513,6 +529,107 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    /**
+     * <p>Yields a copy of this tree with given additional interval. </p>
+     *
+     * <p>This tree remains unaffected. The new tree shares all nodes with this tree except those on the
+     * path to the new interval so the costs are only {@code O(log n)}. An empty interval will be ignored. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  new interval tree
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Baums mit dem angegebenen zus&auml;tzlichen Intervall. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Der neue Baum teilt sich alle Knoten mit diesem Baum
+     * au&szlig;er denen auf dem Pfad zum neuen Intervall, so da&szlig; die Kosten nur {@code O(log n)}
+     * betragen. Ein leeres Intervall wird ignoriert. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  new interval tree
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     * @since   5.6
+     */
+    public IntervalTree<T, I> plus(I interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        int count = Math.incrementExact(this.size);
+        return new IntervalTree<>(insert(this.root, interval, this.timeLine), count, this.timeLine);
+
+    }
+
+    /**
+     * <p>Yields a copy of this tree without given interval. </p>
+     *
+     * <p>This tree remains unaffected. If the interval is stored more than once then only one
+     * occurrence will be removed. The costs are {@code O(log n)}. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree or this instance if the interval was not found
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Baums ohne das angegebene Intervall. </p>
+     *
+     * <p>Dieser Baum bleibt unver&auml;ndert. Ist das Intervall mehrfach gespeichert, wird nur ein
+     * Exemplar entfernt. Die Kosten betragen {@code O(log n)}. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  new interval tree or this instance if the interval was not found
+     * @since   5.6
+     */
+    public IntervalTree<T, I> minus(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return this;
+        }
+
+        Node<T, I> r = remove(this.root, interval, this.timeLine);
+
+        if (r == this.root) {
+            return this;
+        }
+
+        return new IntervalTree<>(r, this.size - 1, this.timeLine);
+
+    }
+
+    /**
+     * <p>Liefert die zugeh&ouml;rige Zeitachse. </p>
+     *
+     * @return  TimeLine
+     */
+    TimeLine<T> getTimeLine() {
+
+        return this.timeLine;
+
+    }
+
+    // erzeugt einen vollständig balancierten Teilbaum aus einer nach Start sortierten Liste
+    private static <T, I extends ChronoInterval<T>> Node<T, I> build(
+        List<I> sorted,
+        int start,
+        int end,
+        TimeLine<T> timeLine
+    ) {
+
+        if (start >= end) {
+            return null;
+        }
+
+        int mid = (start + end) >>> 1;
+        Node<T, I> left = build(sorted, start, mid, timeLine);
+        Node<T, I> right = build(sorted, mid + 1, end, timeLine);
+        return new Node<>(sorted.get(mid), left, right, timeLine);
+
+    }
+
+    // Knoten sind unveränderlich, nur der Pfad zum neuen Intervall wird kopiert
     private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
         Node<T, I> node,
         I interval,
@@ -520,64 +637,125 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     ) {
 
         if (node == null) {
-            return new Node<>(interval);
+            return new Node<>(interval, null, null, timeLine);
         }
 
         if (compareAtStart(node.interval.getStart(), interval.getStart(), timeLine) > 0) {
-            node.left = insert(node.left, interval, timeLine);
+            return balance(node.interval, insert(node.left, interval, timeLine), node.right, timeLine);
         } else {
-            node.right = insert(node.right, interval, timeLine);
+            return balance(node.interval, node.left, insert(node.right, interval, timeLine), timeLine);
+        }
+
+    }
+
+    // liefert denselben Knoten, wenn das Intervall nicht gefunden wurde
+    private static <T, I extends ChronoInterval<T>> Node<T, I> remove(
+        Node<T, I> node,
+        ChronoInterval<T> interval,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compareAtStart(node.interval.getStart(), interval.getStart(), timeLine);
+
+        if ((cmp == 0) && node.interval.equals(interval)) {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+
+            Node<T, I> successor = node.right;
+
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+
+            return balance(successor.interval, node.left, removeMin(node.right, timeLine), timeLine);
         }
 
-        node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
-        node.max = findMax(node, timeLine);
-        int balance = getBalance(node);
+        if (cmp >= 0) { // intervals with equal start might be on both sides after rotations
+            Node<T, I> left = remove(node.left, interval, timeLine);
 
-        if (balance < -1) {
-            if (getBalance(node.right) > 0) {
-                node.right = rightRotate(node.right, timeLine);
+            if (left != node.left) {
+                return balance(node.interval, left, node.right, timeLine);
             }
-            return leftRotate(node, timeLine);
-        } else if (balance > 1) {
-            if (getBalance(node.left) < 0) {
-                node.left = leftRotate(node.left, timeLine);
+        }
+
+        if (cmp <= 0) {
+            Node<T, I> right = remove(node.right, interval, timeLine);
+
+            if (right != node.right) {
+                return balance(node.interval, node.left, right, timeLine);
             }
-            return rightRotate(node, timeLine);
         }
 
         return node;
 
     }
 
+    private static <T, I extends ChronoInterval<T>> Node<T, I> removeMin(
+        Node<T, I> node,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        return balance(node.interval, removeMin(node.left, timeLine), node.right, timeLine);
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> Node<T, I> balance(
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right,
+        TimeLine<T> timeLine
+    ) {
+
+        int delta = getHeight(left) - getHeight(right);
+
+        if (delta > 1) {
+            if (getHeight(left.left) < getHeight(left.right)) {
+                left = leftRotate(left.interval, left.left, left.right, timeLine);
+            }
+            return rightRotate(interval, left, right, timeLine);
+        } else if (delta < -1) {
+            if (getHeight(right.right) < getHeight(right.left)) {
+                right = rightRotate(right.interval, right.left, right.right, timeLine);
+            }
+            return leftRotate(interval, left, right, timeLine);
+        }
+
+        return new Node<>(interval, left, right, timeLine);
+
+    }
+
     private static <T, I extends ChronoInterval<T>> Node<T, I> leftRotate(
-        Node<T, I> n,
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right,
         TimeLine<T> timeLine
     ) {
 
-        Node<T, I> r = n.right;
-        n.right = r.left;
-        r.left = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        Node<T, I> n = new Node<>(interval, left, right.left, timeLine);
+        return new Node<>(right.interval, n, right.right, timeLine);
 
     }
 
     private static <T, I extends ChronoInterval<T>> Node<T, I> rightRotate(
-        Node<T, I> n,
+        I interval,
+        Node<T, I> left,
+        Node<T, I> right,
         TimeLine<T> timeLine
     ) {
 
-        Node<T, I> r = n.left;
-        n.left = r.right;
-        r.right = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
+        Node<T, I> n = new Node<>(interval, left.right, right, timeLine);
+        return new Node<>(left.interval, left.left, n, timeLine);
 
     }
 
@@ -588,36 +766,20 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     }
 
     private static <T, I extends ChronoInterval<T>> Boundary<T> findMax(
-        Node<T, I> n,
+        Boundary<T> end,
+        Node<T, I> left,
+        Node<T, I> right,
         TimeLine<T> timeLine
     ) {
 
-        if ((n.left == null) && (n.right == null)) {
-            return n.max;
-        } else if (n.left == null) {
-            if (compareAtEnd(n.right.max, n.max, timeLine) > 0) {
-                return n.right.max;
-            } else {
-                return n.max;
-            }
-        } else if (n.right == null) {
-            if (compareAtEnd(n.left.max, n.max, timeLine) > 0) {
-                return n.left.max;
-            } else {
-                return n.max;
-            }
-        }
-
-        Boundary<T> maximized;
+        Boundary<T> maximized = end;
 
-        if (compareAtEnd(n.left.max, n.right.max, timeLine) < 0) {
-            maximized = n.right.max;
-        } else {
-            maximized = n.left.max;
+        if ((left != null) && (compareAtEnd(left.max, maximized, timeLine) > 0)) {
+            maximized = left.max;
         }
 
-        if (compareAtEnd(n.max, maximized, timeLine) > 0) {
-            maximized = n.max;
+        if ((right != null) && (compareAtEnd(right.max, maximized, timeLine) > 0)) {
+            maximized = right.max;
         }
 
         return maximized;
@@ -690,16 +852,6 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static int getBalance(Node<?, ?> node) {
-
-        if (node == null) {
-            return 0;
-        }
-
-        return getHeight(node.left) - getHeight(node.right);
-
-    }
-
     private void findIntersections(
         T low, // inclusive if not null
         T high, // exclusive if not null
@@ -855,20 +1007,27 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
         private final I interval;
 
-        // tree organization
-        Node<T, I> left = null;
-        Node<T, I> right = null;
-        int height;
-        Boundary<T> max;
+        // tree organization (immutable for safe sharing between tree versions)
+        private final Node<T, I> left;
+        private final Node<T, I> right;
+        private final int height;
+        private final Boundary<T> max;
 
         //~ Konstruktoren -------------------------------------------------
 
-        Node(I interval) {
+        Node(
+            I interval,
+            Node<T, I> left,
+            Node<T, I> right,
+            TimeLine<T> timeLine
+        ) {
             super();
 
             this.interval = interval;
-            this.height = 1;
-            this.max = interval.getEnd();
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(getHeight(left), getHeight(right)) + 1;
+            this.max = findMax(interval.getEnd(), left, right, timeLine);
 
         }
 
@@ -0,0 +1,356 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MutableIntervalTree.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.engine.TimeLine;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * <p>Represents a mutable and thread-safe interval tree for live data which change frequently. </p>
+ *
+ * <p>Every modification via {@code add()} or {@code remove()} costs only {@code O(log n)} because
+ * the underlying balanced {@link IntervalTree} shares all unchanged nodes with its predecessor
+ * (copy-on-write of the path to the modified node). Readers never block and always work on a
+ * consistent snapshot. Iterators do not reflect modifications after their creation and do not
+ * support removal. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     MutableIntervalTree&lt;Moment, MomentInterval&gt; bookings = MutableIntervalTree.on(Moment.axis());
+ *     bookings.add(booking);
+ *     List&lt;MomentInterval&gt; conflicts = bookings.findIntersections(request);
+ *     bookings.remove(cancelled);
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen ver&auml;nderlichen und thread-sicheren Intervallbaum f&uuml;r
+ * h&auml;ufig ge&auml;nderte Live-Daten. </p>
+ *
+ * <p>Jede &Auml;nderung mittels {@code add()} oder {@code remove()} kostet nur {@code O(log n)},
+ * weil der zugrundeliegende balancierte {@link IntervalTree} alle unver&auml;nderten Knoten mit
+ * seinem Vorg&auml;nger teilt (Kopieren des Pfads zum ge&auml;nderten Knoten). Leser blockieren nie
+ * und arbeiten immer auf einem konsistenten Schnappschu&szlig;. Iteratoren spiegeln keine
+ * &Auml;nderungen nach ihrer Erzeugung wider und unterst&uuml;tzen kein Entfernen. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     MutableIntervalTree&lt;Moment, MomentInterval&gt; bookings = MutableIntervalTree.on(Moment.axis());
+ *     bookings.add(booking);
+ *     List&lt;MomentInterval&gt; conflicts = bookings.findIntersections(request);
+ *     bookings.remove(cancelled);
+ * </pre>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+public final class MutableIntervalTree<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final IntervalTree<T, I> empty;
+    private final AtomicReference<IntervalTree<T, I>> current;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MutableIntervalTree(IntervalTree<T, I> initial) {
+        super();
+
+        List<I> zero = Collections.emptyList();
+        this.empty = IntervalTree.on(initial.getTimeLine(), zero);
+        this.current = new AtomicReference<>(initial);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an empty mutable interval tree on given timeline. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty mutable interval tree
+     * @see     net.time4j.PlainDate#axis()
+     * @see     net.time4j.Moment#axis()
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf dem angegebenen Zeitstrahl. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty mutable interval tree
+     * @see     net.time4j.PlainDate#axis()
+     * @see     net.time4j.Moment#axis()
+     */
+    public static <T, I extends ChronoInterval<T>> MutableIntervalTree<T, I> on(TimeLine<T> timeLine) {
+
+        List<I> zero = Collections.emptyList();
+        return new MutableIntervalTree<>(IntervalTree.on(timeLine, zero));
+
+    }
+
+    /**
+     * <p>Creates a mutable interval tree initially filled with the intervals of given tree. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   tree        the initial content
+     * @return  new mutable interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen ver&auml;nderlichen Intervallbaum, der anfangs mit den Intervallen des
+     * angegebenen Baums gef&uuml;llt ist. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   tree        the initial content
+     * @return  new mutable interval tree
+     */
+    public static <T, I extends ChronoInterval<T>> MutableIntervalTree<T, I> of(IntervalTree<T, I> tree) {
+
+        return new MutableIntervalTree<>(tree);
+
+    }
+
+    /**
+     * <p>Adds given interval to this tree. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  {@code true} if the interval was added else {@code false} (for empty intervals)
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt das angegebene Intervall zu diesem Baum hinzu. </p>
+     *
+     * @param   interval    the interval to be added
+     * @return  {@code true} if the interval was added else {@code false} (for empty intervals)
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    @Override
+    public boolean add(I interval) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        while (true) {
+            IntervalTree<T, I> tree = this.current.get();
+
+            if (this.current.compareAndSet(tree, tree.plus(interval))) {
+                return true;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Removes one occurrence of given interval from this tree. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @throws  ClassCastException if given object is an interval on another timeline
+     */
+    /*[deutsch]
+     * <p>Entfernt ein Exemplar des angegebenen Intervalls aus diesem Baum. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @throws  ClassCastException if given object is an interval on another timeline
+     */
+    @Override
+    public boolean remove(Object obj) {
+
+        if (!(obj instanceof ChronoInterval)) {
+            return false;
+        }
+
+        ChronoInterval<T> interval = cast(obj);
+
+        while (true) {
+            IntervalTree<T, I> tree = this.current.get();
+            IntervalTree<T, I> next = tree.minus(interval);
+
+            if (next == tree) {
+                return false;
+            } else if (this.current.compareAndSet(tree, next)) {
+                return true;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Removes all intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Intervalle. </p>
+     */
+    @Override
+    public void clear() {
+
+        this.current.set(this.empty);
+
+    }
+
+    /**
+     * <p>Queries if given interval is stored in this tree. </p>
+     *
+     * @param   obj     the interval to be checked
+     * @return  boolean
+     * @throws  ClassCastException if given object is an interval on another timeline
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Intervall in diesem Baum gespeichert ist. </p>
+     *
+     * @param   obj     the interval to be checked
+     * @return  boolean
+     * @throws  ClassCastException if given object is an interval on another timeline
+     */
+    @Override
+    public boolean contains(Object obj) {
+
+        return (obj instanceof ChronoInterval) && this.current.get().contains(MutableIntervalTree.<T>cast(obj));
+
+    }
+
+    /**
+     * <p>Obtains an iterator over a snapshot of all stored intervals. </p>
+     *
+     * @return  read-only {@code Iterator} which does not reflect later modifications
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator} &uuml;ber einen Schnappschu&szlig; aller gespeicherten
+     * Intervalle. </p>
+     *
+     * @return  read-only {@code Iterator} which does not reflect later modifications
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        return this.current.get().iterator();
+
+    }
+
+    @Override
+    public int size() {
+
+        return this.current.get().size();
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return this.current.get().isEmpty();
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        return this.current.get().findIntersections(timepoint);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        return this.current.get().findIntersections(interval);
+
+    }
+
+    /**
+     * <p>Obtains an immutable snapshot of the current state of this tree. </p>
+     *
+     * <p>The costs are {@code O(1)}. Several queries on the snapshot see the same consistent
+     * state even if other threads modify this tree in the meantime. </p>
+     *
+     * @return  immutable interval tree
+     */
+    /*[deutsch]
+     * <p>Liefert einen unver&auml;nderlichen Schnappschu&szlig; des aktuellen Zustands dieses Baums. </p>
+     *
+     * <p>Die Kosten betragen {@code O(1)}. Mehrere Abfragen auf dem Schnappschu&szlig; sehen den
+     * gleichen konsistenten Zustand, auch wenn andere Threads diesen Baum inzwischen &auml;ndern. </p>
+     *
+     * @return  immutable interval tree
+     */
+    public IntervalTree<T, I> snapshot() {
+
+        return this.current.get();
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChronoInterval<T> cast(Object obj) {
+
+        return (ChronoInterval<T>) obj;
+
+    }
+
+}
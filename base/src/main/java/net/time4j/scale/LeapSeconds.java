@@ -176,6 +176,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final EventTable EMPTY_TABLE = new EventTable(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -184,8 +185,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final EventTable tableFinal;
+    private volatile EventTable tableVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -216,8 +217,8 @@ public final class LeapSeconds
         if ((loaded == null) || (leapCount == 0)) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.tableFinal = EMPTY_TABLE;
+            this.tableVolatile = EMPTY_TABLE;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -244,8 +245,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -264,6 +263,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = new EventTable(this.initReverse(), this.supportsNegativeLS);
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -606,18 +608,13 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        EventTable table = this.getEventTable();
+        int index = table.indexOfFirstUtcOnOrAfter(utc); // nur das nächste Ereignis kommt in Frage
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
+        if (index < table.utcs.length) {
+            long start = table.utcs[index] - table.shifts[index];
+            if (utc > start) { // Schaltbereich
+                return (int) (utc - start);
             }
         }
 
@@ -644,20 +641,14 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        EventTable table = this.getEventTable();
+        int index = table.indexOfFirstUtcOnOrAfter(utc == Long.MAX_VALUE ? utc : utc + 1);
 
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if (index < table.utcs.length) {
+            return table.events[table.utcs.length - 1 - index];
         }
 
-        return result;
+        return null;
 
     }
 
@@ -697,16 +688,12 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+        EventTable table = this.getEventTable();
+        int index = table.indexOfLastBefore(table.raws, epochTime);
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+        if (index >= 0) {
+            return Math.addExact(epochTime, table.utcs[index] - table.raws[index]);
         }
 
         return epochTime;
@@ -746,21 +733,12 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        // in der Praxis wird meistens mit aktuellen Datumswerten gesucht
+        EventTable table = this.getEventTable();
+        int index = table.indexOfLastBefore(table.thresholds, utc);
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
+        if (index >= 0) {
+            utc = Math.addExact(utc, table.raws[index] - table.utcs[index]);
         }
 
         return utc + UNIX_OFFSET;
@@ -791,19 +769,15 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        EventTable table = this.getEventTable();
+        int n = table.utcs.length;
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
+        if ((n == 0) || (utc > table.utcs[n - 1])) {
+            return false;
         }
 
-        return false;
+        int index = Arrays.binarySearch(table.utcs, utc);
+        return ((index >= 0) && (table.shifts[index] == 1));
 
     }
 
@@ -952,7 +926,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.events[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -977,7 +951,7 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.tableVolatile = new EventTable(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
@@ -985,10 +959,16 @@ public final class LeapSeconds
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
     private ExtendedLSE[] getEventsInDescendingOrder() {
 
+        return this.getEventTable().events;
+
+    }
+
+    private EventTable getEventTable() {
+
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.tableFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile;
         }
 
     }
@@ -1062,6 +1042,81 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderliche Suchtabelle mit primitiven Arrays in aufsteigender Reihenfolge, die
+     * eine bin&auml;re Suche und eine schnelle Abfrage von Zeitpunkten nach dem letzten Ereignis
+     * erlaubt. </p>
+     */
+    private static class EventTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events; // absteigend
+        private final long[] utcs;
+        private final long[] raws;
+        private final int[] shifts;
+        private final long[] thresholds; // ab hier (exklusiv) gilt beim Entfernen die Verschiebung
+
+        //~ Konstruktoren -------------------------------------------------
+
+        EventTable(
+            ExtendedLSE[] events,
+            boolean snls
+        ) {
+            super();
+
+            int n = events.length;
+
+            this.events = events;
+            this.utcs = new long[n];
+            this.raws = new long[n];
+            this.shifts = new int[n];
+            this.thresholds = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = events[n - 1 - i];
+                this.utcs[i] = lse.utc();
+                this.raws[i] = lse.raw();
+                this.shifts[i] = lse.getShift();
+                this.thresholds[i] = (
+                    (snls && (lse.getShift() < 0))
+                    ? Math.min(lse.utc() - lse.getShift(), lse.utc())
+                    : lse.utc() - lse.getShift());
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // index of last element smaller than key or -1
+        int indexOfLastBefore(
+            long[] array,
+            long key
+        ) {
+            int n = array.length;
+
+            if ((n == 0) || (array[n - 1] < key)) {
+                return n - 1; // schneller Weg für aktuelle Zeitpunkte
+            }
+
+            int index = Arrays.binarySearch(array, key);
+            return ((index >= 0) ? index - 1 : -(index + 1) - 1);
+        }
+
+        // index of first utc element not smaller than key or length of array
+        int indexOfFirstUtcOnOrAfter(long key) {
+            int n = this.utcs.length;
+
+            if ((n == 0) || (this.utcs[n - 1] < key)) {
+                return n;
+            }
+
+            int index = Arrays.binarySearch(this.utcs, key);
+            return ((index >= 0) ? index : -(index + 1));
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
@@ -0,0 +1,322 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (OffsetSegments.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Compact sequence of consecutive POSIX-intervals with constant total offset which together
+ * cover a given POSIX-range of a timezone. </p>
+ *
+ * <p>Designed for the conversion of large sorted batches of instants: Instead of searching the
+ * transition history for every single instant, callers can walk along the segments and determine
+ * the offset of every element in amortized constant time. Example: </p>
+ *
+ * <pre>
+ *  OffsetSegments segments = tz.getOffsetSegments(start, end);
+ *  int index = 0;
+ *
+ *  for (int i = 0; i &lt; posixTimes.length; i++) { // sorted in ascending order
+ *      index = segments.findSegment(posixTimes[i], index);
+ *      localTimes[i] = posixTimes[i] + segments.getTotalOffset(index);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone#getOffsetSegments(net.time4j.base.UnixTime, net.time4j.base.UnixTime)
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Kompakte Folge von aufeinanderfolgenden POSIX-Intervallen mit jeweils konstanter Verschiebung,
+ * die zusammen einen gegebenen POSIX-Bereich einer Zeitzone abdecken. </p>
+ *
+ * <p>F&uuml;r die Konvertierung gro&szlig;er sortierter Mengen von Zeitpunkten gedacht: Statt die
+ * &Uuml;bergangshistorie f&uuml;r jeden einzelnen Zeitpunkt zu durchsuchen, k&ouml;nnen Anwender
+ * entlang der Segmente laufen und die Verschiebung jedes Elements in amortisiert konstanter Zeit
+ * bestimmen. Beispiel: </p>
+ *
+ * <pre>
+ *  OffsetSegments segments = tz.getOffsetSegments(start, end);
+ *  int index = 0;
+ *
+ *  for (int i = 0; i &lt; posixTimes.length; i++) { // aufsteigend sortiert
+ *      index = segments.findSegment(posixTimes[i], index);
+ *      localTimes[i] = posixTimes[i] + segments.getTotalOffset(index);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     Timezone#getOffsetSegments(net.time4j.base.UnixTime, net.time4j.base.UnixTime)
+ * @doctags.concurrency {immutable}
+ */
+public final class OffsetSegments {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // starts[i] = inclusive start of segment i, starts[n] = exclusive end of whole range
+    private final long[] starts;
+    private final int[] offsets;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    OffsetSegments(
+        long[] starts,
+        int[] offsets
+    ) {
+        super();
+
+        this.starts = starts;
+        this.offsets = offsets;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of segments (at least one if the range is not empty). </p>
+     *
+     * @return  non-negative count of segments
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Segmente (mindestens eins, wenn der Bereich nicht leer ist). </p>
+     *
+     * @return  non-negative count of segments
+     */
+    public int size() {
+
+        return this.offsets.length;
+
+    }
+
+    /**
+     * <p>Yields the inclusive start of given segment in POSIX seconds. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  start of segment (inclusive)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den inklusiven Start des angegebenen Segments in POSIX-Sekunden. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  start of segment (inclusive)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getStart(int index) {
+
+        this.checkIndex(index);
+        return this.starts[index];
+
+    }
+
+    /**
+     * <p>Yields the exclusive end of given segment in POSIX seconds. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  end of segment (exclusive)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das exklusive Ende des angegebenen Segments in POSIX-Sekunden. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  end of segment (exclusive)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEnd(int index) {
+
+        this.checkIndex(index);
+        return this.starts[index + 1];
+
+    }
+
+    /**
+     * <p>Yields the total offset of given segment in seconds. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  total offset in seconds valid for whole segment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     #getTotalOffsetAt(long)
+     */
+    /*[deutsch]
+     * <p>Liefert die gesamte Verschiebung des angegebenen Segments in Sekunden. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  total offset in seconds valid for whole segment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     #getTotalOffsetAt(long)
+     */
+    public int getTotalOffset(int index) {
+
+        this.checkIndex(index);
+        return this.offsets[index];
+
+    }
+
+    /**
+     * <p>Yields the total offset of given segment as object. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  offset valid for whole segment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die gesamte Verschiebung des angegebenen Segments als Objekt. </p>
+     *
+     * @param   index   segment index in range {@code 0 <= index < size()}
+     * @return  offset valid for whole segment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public ZonalOffset getOffset(int index) {
+
+        return ZonalOffset.ofTotalSeconds(this.getTotalOffset(index));
+
+    }
+
+    /**
+     * <p>Finds the index of the segment which contains given POSIX time. </p>
+     *
+     * <p>The search starts at given hint which is usually the result of the previous call. If the
+     * POSIX times are queried in ascending order then the effort is amortized constant. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch
+     * @param   hint        index of segment where to start the search (usually the last result)
+     * @return  segment index or {@code -1} if given time is outside of the whole range
+     */
+    /*[deutsch]
+     * <p>Findet den Index des Segments, das die angegebene POSIX-Zeit enth&auml;lt. </p>
+     *
+     * <p>Die Suche beginnt beim angegebenen Hinweis, der gew&ouml;hnlich das Ergebnis des vorherigen
+     * Aufrufs ist. Werden die POSIX-Zeiten aufsteigend abgefragt, ist der Aufwand amortisiert konstant. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch
+     * @param   hint        index of segment where to start the search (usually the last result)
+     * @return  segment index or {@code -1} if given time is outside of the whole range
+     */
+    public int findSegment(
+        long posixTime,
+        int hint
+    ) {
+
+        int n = this.offsets.length;
+
+        if ((n == 0) || (posixTime < this.starts[0]) || (posixTime >= this.starts[n])) {
+            return -1;
+        }
+
+        int index = (((hint < 0) || (hint >= n)) ? 0 : hint);
+
+        if (posixTime >= this.starts[index]) {
+            for (int i = 0; i < 4; i++) { // sequential scan for sorted input
+                if (posixTime < this.starts[index + 1]) {
+                    return index;
+                }
+                index++;
+            }
+            return this.search(posixTime, index, n);
+        } else {
+            return this.search(posixTime, 0, index);
+        }
+
+    }
+
+    /**
+     * <p>Determines the total offset in seconds valid at given POSIX time. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch
+     * @return  total offset in seconds
+     * @throws  IllegalArgumentException if given time is outside of the whole range
+     */
+    /*[deutsch]
+     * <p>Bestimmt die zur angegebenen POSIX-Zeit g&uuml;ltige Verschiebung in Sekunden. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch
+     * @return  total offset in seconds
+     * @throws  IllegalArgumentException if given time is outside of the whole range
+     */
+    public int getTotalOffsetAt(long posixTime) {
+
+        int index = this.findSegment(posixTime, 0);
+
+        if (index == -1) {
+            throw new IllegalArgumentException("Out of range: " + posixTime);
+        }
+
+        return this.offsets[index];
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(32 + this.offsets.length * 24);
+        sb.append("[");
+
+        for (int i = 0; i < this.offsets.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(this.starts[i]);
+            sb.append('/');
+            sb.append(this.starts[i + 1]);
+            sb.append('=');
+            sb.append(this.offsets[i]);
+        }
+
+        return sb.append(']').toString();
+
+    }
+
+    // binary search for segment in index range [low, high)
+    private int search(
+        long posixTime,
+        int low,
+        int high
+    ) {
+
+        int index = Arrays.binarySearch(this.starts, low, high + 1, posixTime);
+        return ((index >= 0) ? index : -(index + 1) - 1);
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.offsets.length)) {
+            throw new IndexOutOfBoundsException("Segment index out of range: " + index);
+        }
+
+    }
+
+}
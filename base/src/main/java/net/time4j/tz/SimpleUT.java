@@ -58,6 +58,10 @@ class SimpleUT
         return this.nano;
     }
 
+    static UnixTime of(long posix) {
+        return new SimpleUT(posix, 0);
+    }
+
     static UnixTime previousTime(UnixTime ut) {
         return previousTime(ut.getPosixTime(), ut.getNanosecond());
     }
@@ -38,13 +38,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -173,7 +175,7 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static volatile RecentZones lastUsed = new RecentZones(10); // strong references
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -185,7 +187,10 @@ public abstract class Timezone
     private static final ZoneModelProvider DEFAULT_PROVIDER;
     private static final ConcurrentMap<String, NamedReference> CACHE;
     private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
+    private static final int MAX_CACHE_SIZE = 2048;
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+    private static final LongAdder CACHE_EVICTIONS = new LongAdder();
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
 
     /**
@@ -199,7 +204,6 @@ public abstract class Timezone
         CACHE = new ConcurrentHashMap<>();
         PROVIDERS = new ConcurrentHashMap<>();
         QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
 
         List<Class<? extends TZID>> areas;
 
@@ -1093,6 +1097,107 @@ public abstract class Timezone
      */
     public abstract TransitionHistory getHistory();
 
+    /**
+     * <p>Determines all segments of constant total offset which cover given POSIX-range. </p>
+     *
+     * <p>Suitable for the conversion of large sorted batches of instants because the transition
+     * history is only searched once for the whole range. If this timezone has no accessible
+     * history then the platform is probed in daily steps, that is, transitions which are
+     * reverted within less than one day might not be detected. </p>
+     *
+     * @param   startInclusive  start time on POSIX time scale
+     * @param   endExclusive    end time on POSIX time scale
+     * @return  compact sequence of offset segments, empty if start is equal to end
+     * @throws  IllegalArgumentException if start is after end
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bestimmt alle Segmente mit konstanter Gesamtverschiebung, die den angegebenen
+     * POSIX-Bereich abdecken. </p>
+     *
+     * <p>Geeignet f&uuml;r die Konvertierung gro&szlig;er sortierter Mengen von Zeitpunkten, weil
+     * die &Uuml;bergangshistorie nur einmal f&uuml;r den ganzen Bereich durchsucht wird. Hat diese
+     * Zeitzone keine zug&auml;ngliche Historie, wird die Plattform in Tagesschritten abgefragt, so
+     * da&szlig; &Uuml;berg&auml;nge, die innerhalb von weniger als einem Tag wieder
+     * r&uuml;ckg&auml;ngig gemacht werden, eventuell nicht erkannt werden. </p>
+     *
+     * @param   startInclusive  start time on POSIX time scale
+     * @param   endExclusive    end time on POSIX time scale
+     * @return  compact sequence of offset segments, empty if start is equal to end
+     * @throws  IllegalArgumentException if start is after end
+     * @since   5.6
+     */
+    public OffsetSegments getOffsetSegments(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        long start = startInclusive.getPosixTime();
+        long end = endExclusive.getPosixTime() + ((endExclusive.getNanosecond() > 0) ? 1 : 0);
+
+        if (start > end) {
+            throw new IllegalArgumentException("Start after end: " + start + "/" + end);
+        } else if (start == end) {
+            return new OffsetSegments(new long[] {start}, new int[0]);
+        }
+
+        long[] starts = new long[8];
+        int[] offsets = new int[8];
+        starts[0] = start;
+        offsets[0] = this.getOffset(SimpleUT.of(start)).getIntegralAmount();
+        int n = 1;
+
+        TransitionHistory history = this.getHistory();
+
+        if (history != null) {
+            for (ZonalTransition zt : history.getTransitions(SimpleUT.of(start + 1), SimpleUT.of(end))) {
+                if (zt.getTotalOffset() != offsets[n - 1]) {
+                    if (n == offsets.length) {
+                        starts = Arrays.copyOf(starts, n * 2 + 1);
+                        offsets = Arrays.copyOf(offsets, n * 2);
+                    }
+                    starts[n] = zt.getPosixTime();
+                    offsets[n] = zt.getTotalOffset();
+                    n++;
+                }
+            }
+        } else if (!this.isFixed()) {
+            long t = start;
+
+            while (t < end - 1) {
+                long next = Math.min(end - 1, t + 86400);
+                int offset = this.getOffset(SimpleUT.of(next)).getIntegralAmount();
+                if (offset != offsets[n - 1]) {
+                    long low = t; // offset of low equals last offset
+                    long high = next; // offset of high is different
+                    while (high - low > 1) {
+                        long mid = low + (high - low) / 2;
+                        if (this.getOffset(SimpleUT.of(mid)).getIntegralAmount() == offsets[n - 1]) {
+                            low = mid;
+                        } else {
+                            high = mid;
+                        }
+                    }
+                    if (n == offsets.length) {
+                        starts = Arrays.copyOf(starts, n * 2 + 1);
+                        offsets = Arrays.copyOf(offsets, n * 2);
+                    }
+                    starts[n] = high;
+                    offsets[n] = this.getOffset(SimpleUT.of(high)).getIntegralAmount();
+                    n++;
+                    t = high;
+                } else {
+                    t = next;
+                }
+            }
+        }
+
+        starts = Arrays.copyOf(starts, n + 1);
+        starts[n] = end;
+        return new OffsetSegments(starts, Arrays.copyOf(offsets, n));
+
+    }
+
     /**
      * <p>Describes all registered {@code ZoneModelProvider}-instances with
      * name and optionally location and version. </p>
@@ -1481,15 +1586,18 @@ public abstract class Timezone
 
         if (sref != null) {
             tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
+            if ((tz == null) && CACHE.remove(sref.tzid, sref)) {
+                CACHE_EVICTIONS.increment();
             }
         }
 
         if (tz != null) {
+            CACHE_HITS.increment();
             return tz;
         }
 
+        CACHE_MISSES.increment();
+
         // ZoneModelProvider auflösen
         String providerName = "";
         String zoneKey = zoneID;
@@ -1601,12 +1709,11 @@ public abstract class Timezone
                 );
 
             if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
+                lastUsed.add(tz);
+                expungeStaleEntries();
 
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
+                if (CACHE.size() > MAX_CACHE_SIZE) {
+                    trimCache();
                 }
             } else {
                 Timezone oldZone = oldRef.get();
@@ -1621,6 +1728,38 @@ public abstract class Timezone
 
     }
 
+    // removes all entries whose soft references have been cleared by the garbage collector
+    private static void expungeStaleEntries() {
+
+        NamedReference ref;
+
+        while ((ref = (NamedReference) QUEUE.poll()) != null) {
+            if (CACHE.remove(ref.tzid, ref)) {
+                CACHE_EVICTIONS.increment();
+            }
+        }
+
+    }
+
+    // approximate bound without any global lock: recently cached zones are retained with priority
+    private static void trimCache() {
+
+        RecentZones recent = lastUsed;
+
+        for (Map.Entry<String, NamedReference> entry : CACHE.entrySet()) {
+            if (CACHE.size() <= MAX_CACHE_SIZE) {
+                break;
+            }
+
+            Timezone tz = entry.getValue().get();
+
+            if (((tz == null) || !recent.contains(tz)) && CACHE.remove(entry.getKey(), entry.getValue())) {
+                CACHE_EVICTIONS.increment();
+            }
+        }
+
+    }
+
     private static Timezone getZoneByAlias(
         ZoneModelProvider provider,
         TZID tzid,
@@ -1819,10 +1958,8 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
+            while (QUEUE.poll() != null) {}
+            lastUsed = new RecentZones(lastUsed.capacity());
 
             zonalKeys = new ZonalKeys();
             CACHE.clear();
@@ -1880,20 +2017,70 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
+            expungeStaleEntries();
+            lastUsed = lastUsed.resize(minimumCacheSize);
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
-            }
+        }
+
+        /**
+         * <p>Yields the count of successful cache lookups since start of the application. </p>
+         *
+         * @return  count of cache hits
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der erfolgreichen Cache-Zugriffe seit dem Start der Anwendung. </p>
+         *
+         * @return  count of cache hits
+         * @since   5.6
+         */
+        public static long getHitCount() {
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+            return CACHE_HITS.sum();
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
-                }
-            }
+        }
+
+        /**
+         * <p>Yields the count of cache lookups which required to load the timezone from its provider. </p>
+         *
+         * @return  count of cache misses
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Cache-Zugriffe, die ein Laden der Zeitzone vom Provider erforderten. </p>
+         *
+         * @return  count of cache misses
+         * @since   5.6
+         */
+        public static long getMissCount() {
+
+            return CACHE_MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of cache entries which were removed either because the garbage collector
+         * had released them or because the cache exceeded its maximum size. </p>
+         *
+         * <p>Explicit clearing by {@link #refresh()} or {@link #setCacheActive(boolean)} does not count. </p>
+         *
+         * @return  count of evicted cache entries
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Cache-Eintr&auml;ge, die entfernt wurden, weil sie entweder vom
+         * Garbage-Collector freigegeben wurden oder weil der Cache seine Maximalgr&ouml;&szlig;e
+         * &uuml;berschritten hat. </p>
+         *
+         * <p>Ein explizites Leeren durch {@link #refresh()} oder {@link #setCacheActive(boolean)}
+         * z&auml;hlt nicht. </p>
+         *
+         * @return  count of evicted cache entries
+         * @since   5.6
+         */
+        public static long getEvictionCount() {
+
+            return CACHE_EVICTIONS.sum();
 
         }
 
@@ -1919,6 +2106,74 @@ public abstract class Timezone
 
     }
 
+    // lock-free ring buffer which keeps strong references to the most recently cached zones
+    private static class RecentZones {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final AtomicReferenceArray<Timezone> slots;
+        private final AtomicInteger cursor;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RecentZones(int capacity) {
+            super();
+
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.cursor = new AtomicInteger();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        int capacity() {
+
+            return this.slots.length();
+
+        }
+
+        void add(Timezone tz) {
+
+            int n = this.slots.length();
+
+            if (n > 0) {
+                this.slots.set(Math.floorMod(this.cursor.getAndIncrement(), n), tz);
+            }
+
+        }
+
+        boolean contains(Timezone tz) {
+
+            for (int i = 0, n = this.slots.length(); i < n; i++) {
+                if (this.slots.get(i) == tz) {
+                    return true;
+                }
+            }
+
+            return false;
+
+        }
+
+        // copies the most recent entries into a new ring buffer of given capacity
+        RecentZones resize(int capacity) {
+
+            RecentZones ring = new RecentZones(capacity);
+            int n = this.slots.length();
+            int end = this.cursor.get();
+
+            for (int i = end - Math.min(n, capacity); i < end; i++) {
+                Timezone tz = this.slots.get(Math.floorMod(i, n));
+                if (tz != null) {
+                    ring.add(tz);
+                }
+            }
+
+            return ring;
+
+        }
+
+    }
+
     private static class ZonalKeys {
 
         //~ Instanzvariablen ----------------------------------------------
@@ -30,6 +30,7 @@ import java.math.RoundingMode;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -60,7 +61,15 @@ public final class ZonalOffset
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Integer, ZonalOffset> OFFSET_CACHE = new ConcurrentHashMap<>();
+    private static final int MAX_MINUTES = 18 * 60;
+    private static final int MAX_SECOND_OFFSETS = 256;
+
+    // direct-indexed intern table for all offsets in full minutes, index = total minutes + MAX_MINUTES
+    private static final AtomicReferenceArray<ZonalOffset> MINUTE_CACHE =
+        new AtomicReferenceArray<>(2 * MAX_MINUTES + 1);
+
+    // bounded fallback for offsets in second precision
+    private static final ConcurrentMap<Integer, ZonalOffset> SECOND_CACHE = new ConcurrentHashMap<>();
 
     private static final BigDecimal DECIMAL_60 = new BigDecimal(60);
     private static final BigDecimal DECIMAL_3600 = new BigDecimal(3600);
@@ -81,7 +90,7 @@ public final class ZonalOffset
 
     static {
         UTC = new ZonalOffset(0, 0);
-        OFFSET_CACHE.put(Integer.valueOf(0), UTC);
+        MINUTE_CACHE.set(MAX_MINUTES, UTC);
     }
 
     private static final long serialVersionUID = -1410512619471503090L;
@@ -491,17 +500,32 @@ public final class ZonalOffset
             return new ZonalOffset(total, fraction);
         } else if (total == 0) {
             return UTC;
-        } else if ((total % (15 * 60)) == 0) { // Viertelstundenintervall
-            Integer value = Integer.valueOf(total);
-            ZonalOffset result = OFFSET_CACHE.get(value);
+        } else if ((total % 60) == 0) { // Minutenintervall
+            int index = total / 60 + MAX_MINUTES;
+            if ((index < 0) || (index >= MINUTE_CACHE.length())) {
+                return new ZonalOffset(total, 0); // throws IllegalArgumentException
+            }
+            ZonalOffset result = MINUTE_CACHE.get(index);
             if (result == null) {
                 result = new ZonalOffset(total, 0);
-                OFFSET_CACHE.putIfAbsent(value, result);
-                result = OFFSET_CACHE.get(value);
+                if (!MINUTE_CACHE.compareAndSet(index, null, result)) {
+                    result = MINUTE_CACHE.get(index);
+                }
             }
             return result;
         } else {
-            return new ZonalOffset(total, 0);
+            Integer value = Integer.valueOf(total);
+            ZonalOffset result = SECOND_CACHE.get(value);
+            if (result == null) {
+                result = new ZonalOffset(total, 0);
+                if (SECOND_CACHE.size() < MAX_SECOND_OFFSETS) {
+                    ZonalOffset old = SECOND_CACHE.putIfAbsent(value, result);
+                    if (old != null) {
+                        result = old;
+                    }
+                }
+            }
+            return result;
         }
 
     }
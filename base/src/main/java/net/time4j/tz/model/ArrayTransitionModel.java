@@ -60,6 +60,13 @@ final class ArrayTransitionModel
     private transient final ZonalTransition[] transitions;
     private transient final boolean negativeDST;
 
+    // parallel primitive arrays for binary search
+    private transient final long[] posixTimes;
+    private transient final long[] localLimits; // posix time plus max(total offset, previous offset)
+
+    // index of last search result, racy single-word write is harmless because every index is valid
+    private transient int lastHit = 0;
+
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
@@ -103,10 +110,18 @@ final class ArrayTransitionModel
         }
 
         this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.localLimits = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            this.posixTimes[i] = zt.getPosixTime();
+            this.localLimits[i] = zt.getPosixTime() + Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = getTransitions(this.transitions, this.posixTimes, 0L, end);
 
     }
 
@@ -123,7 +138,7 @@ final class ArrayTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
             (index == 0)
@@ -145,7 +160,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
             (index == this.transitions.length)
@@ -179,6 +194,7 @@ final class ArrayTransitionModel
 
         return getTransitions(
             this.transitions,
+            this.posixTimes,
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -257,7 +273,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             return (
@@ -300,7 +316,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             if (ruleModel == null) {
@@ -436,6 +452,7 @@ final class ArrayTransitionModel
 
     private static List<ZonalTransition> getTransitions(
         ZonalTransition[] transitions,
+        long[] posixTimes,
         long startInclusive,
         long endExclusive
     ) {
@@ -444,18 +461,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, posixTimes);
+        int i2 = search(endExclusive, posixTimes);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -471,19 +488,38 @@ final class ArrayTransitionModel
 
     }
 
+    // returns index of first transition after posixTime, first tries the result of last search
+    private int search(long posixTime) {
+
+        long[] times = this.posixTimes;
+        int index = this.lastHit;
+
+        if (
+            ((index == 0) || (times[index - 1] <= posixTime))
+            && ((index == times.length) || (posixTime < times[index]))
+        ) {
+            return index;
+        }
+
+        index = search(posixTime, times);
+        this.lastHit = index;
+        return index;
+
+    }
+
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
-        ZonalTransition[] transitions
+        long[] posixTimes
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = posixTimes.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (posixTimes[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -497,18 +533,16 @@ final class ArrayTransitionModel
     // returns index of first transition after local date and time
     private static int searchLocal(
         long localSecs,
-        ZonalTransition[] transitions
+        long[] localLimits
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = localLimits.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (localLimits[middle] <= localSecs) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -24,7 +24,6 @@ package net.time4j.tz.model;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.GregorianDate;
-import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
@@ -38,10 +37,11 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -57,14 +57,16 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final int LAST_CACHED_YEAR;
+    // count of years before and after current year whose transitions are precomputed
+    private static final int WINDOW_YEARS = Math.max(0, Integer.getInteger("net.time4j.tz.rules.window", 50));
 
-    static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
-    }
+    // maximum count of years outside of the window in the cache
+    private static final int MAX_CACHED_YEARS = 64;
+
+    // aggregated statistics of all year caches, see TransitionModel.Cache
+    static final LongAdder CACHE_HITS = new LongAdder();
+    static final LongAdder CACHE_MISSES = new LongAdder();
+    static final LongAdder CACHE_EVICTIONS = new LongAdder();
 
     private static final long serialVersionUID = 2456700806862862287L;
 
@@ -73,7 +75,8 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    private transient final YearCache tCache = new YearCache();
+    private transient volatile Window window = null;
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
@@ -191,6 +194,12 @@ final class RuleBasedTransitionModel
             return null;
         }
 
+        Window w = this.getWindow();
+
+        if (w.contains(ut.getPosixTime())) {
+            return w.transitions[w.search(ut.getPosixTime())];
+        }
+
         ZonalTransition current = null;
         int stdOffset = this.initial.getRawOffset();
         int n = this.rules.size();
@@ -239,6 +248,12 @@ final class RuleBasedTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
+        Window w = this.getWindow();
+
+        if (w.contains(ut.getPosixTime())) {
+            return Optional.of(w.transitions[w.search(ut.getPosixTime()) + 1]);
+        }
+
         ZonalTransition transition = getNextTransition(ut.getPosixTime(), this.initial, this.rules);
         return ((transition == null) ? Optional.empty() : Optional.of(transition));
 
@@ -359,6 +374,47 @@ final class RuleBasedTransitionModel
 
     }
 
+    /**
+     * <p>Liefert die Anzahl der Treffer im Cache f&uuml;r Jahre au&szlig;erhalb des vorberechneten
+     * Zeitfensters. </p>
+     *
+     * @return  count of cache hits
+     */
+    long getCacheHits() {
+
+        synchronized (this.tCache) {
+            return this.tCache.hits;
+        }
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Fehlversuche im Cache f&uuml;r Jahre au&szlig;erhalb des
+     * vorberechneten Zeitfensters. </p>
+     *
+     * @return  count of cache misses
+     */
+    long getCacheMisses() {
+
+        synchronized (this.tCache) {
+            return this.tCache.misses;
+        }
+
+    }
+
+    /**
+     * <p>Liefert die aktuelle Anzahl der Jahre im Cache (ohne das vorberechnete Zeitfenster). </p>
+     *
+     * @return  count of cached years
+     */
+    int getCacheSize() {
+
+        synchronized (this.tCache) {
+            return this.tCache.size();
+        }
+
+    }
+
     ZonalTransition getConflictTransition(
         GregorianDate localDate,
         long localSecs
@@ -569,41 +625,114 @@ final class RuleBasedTransitionModel
 
     private List<ZonalTransition> getTransitions(int year) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        Window w = this.getWindow();
 
-        if (transitions == null) {
-            List<ZonalTransition> list = new ArrayList<>();
-            int stdOffset = this.initial.getRawOffset();
+        if ((year >= w.firstYear) && (year < w.firstYear + w.years.length)) {
+            return w.years[year - w.firstYear];
+        } else if (!this.gregorian) {
+            return this.createTransitions(year);
+        }
 
-            for (int i = 0, n = this.rules.size(); i < n; i++) {
-                DaylightSavingRule rule = this.rules.get(i);
-                DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
-                int shift = getShift(rule, stdOffset, previous.getSavings());
+        Integer key = Integer.valueOf(year);
+        List<ZonalTransition> transitions;
+
+        synchronized (this.tCache) {
+            transitions = this.tCache.get(key);
+            if (transitions == null) {
+                this.tCache.misses++;
+                CACHE_MISSES.increment();
+            } else {
+                this.tCache.hits++;
+                CACHE_HITS.increment();
+                return transitions;
+            }
+        }
 
-                list.add(
-                    new ZonalTransition(
-                        getTransitionTime(rule, year, shift),
-                        stdOffset + previous.getSavings(),
-                        stdOffset + rule.getSavings(),
-                        rule.getSavings()));
+        transitions = this.createTransitions(year);
+
+        synchronized (this.tCache) {
+            List<ZonalTransition> old = this.tCache.putIfAbsent(key, transitions);
+            if (old != null) {
+                transitions = old;
             }
+        }
+
+        return transitions;
+
+    }
 
-            transitions = Collections.unmodifiableList(list);
+    private List<ZonalTransition> createTransitions(int year) {
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
+        List<ZonalTransition> list = new ArrayList<>();
+        int stdOffset = this.initial.getRawOffset();
+
+        for (int i = 0, n = this.rules.size(); i < n; i++) {
+            DaylightSavingRule rule = this.rules.get(i);
+            DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
+            int shift = getShift(rule, stdOffset, previous.getSavings());
+
+            list.add(
+                new ZonalTransition(
+                    getTransitionTime(rule, year, shift),
+                    stdOffset + previous.getSavings(),
+                    stdOffset + rule.getSavings(),
+                    rule.getSavings()));
+        }
+
+        return Collections.unmodifiableList(list);
+
+    }
+
+    private Window getWindow() {
+
+        Window w = this.window;
+
+        if (w == null) { // racy initialization is harmless because all windows are equal
+            w = this.createWindow();
+            this.window = w;
+        }
+
+        return w;
+
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Window createWindow() {
+
+        if (!this.gregorian || (WINDOW_YEARS == 0)) {
+            return Window.EMPTY;
+        }
+
+        int currentYear = getYear(this.rules.get(0), System.currentTimeMillis() / 1000);
+        int firstYear = currentYear - WINDOW_YEARS;
+        int count = 2 * WINDOW_YEARS + 1;
+        int n = this.rules.size();
+        long preModel = this.initial.getPosixTime();
+
+        List<ZonalTransition>[] years = new List[count];
+        List<ZonalTransition> relevant = new ArrayList<>(count * n);
+
+        for (int i = 0; i < count; i++) {
+            years[i] = this.createTransitions(firstYear + i);
+            for (ZonalTransition zt : years[i]) {
+                if (zt.getPosixTime() > preModel) {
+                    relevant.add(zt);
                 }
             }
         }
 
-        return transitions;
+        int size = relevant.size();
+        ZonalTransition[] transitions = relevant.toArray(new ZonalTransition[size]);
+        long[] times = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            times[i] = transitions[i].getPosixTime();
+            if ((i > 0) && (times[i - 1] >= times[i])) {
+                return Window.EMPTY; // unusual rules, let us use the general algorithm
+            }
+        }
+
+        return new Window(firstYear, years, times, transitions);
 
     }
 
@@ -648,4 +777,110 @@ final class RuleBasedTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Vorberechnete &Uuml;berg&auml;nge eines Zeitfensters von Jahren um das aktuelle Jahr herum. </p>
+     */
+    private static final class Window {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final Window EMPTY = new Window(0, new List[0], new long[0], new ZonalTransition[0]);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int firstYear;
+        private final List<ZonalTransition>[] years;
+        private final long[] times; // ascending posix times of all transitions after the pre-model
+        private final ZonalTransition[] transitions;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Window(
+            int firstYear,
+            List<ZonalTransition>[] years,
+            long[] times,
+            ZonalTransition[] transitions
+        ) {
+            super();
+
+            this.firstYear = firstYear;
+            this.years = years;
+            this.times = times;
+            this.transitions = transitions;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // true if both the start transition and the next transition are inside the window
+        boolean contains(long posixTime) {
+
+            int n = this.times.length;
+            return ((n > 1) && (posixTime >= this.times[0]) && (posixTime < this.times[n - 1]));
+
+        }
+
+        // index of last transition not after given posix time
+        int search(long posixTime) {
+
+            int low = 0;
+            int high = this.times.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+
+                if (this.times[middle] <= posixTime) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return low - 1;
+
+        }
+
+    }
+
+    /**
+     * <p>LRU-Cache f&uuml;r Jahre au&szlig;erhalb des Zeitfensters, mu&szlig; synchronisiert werden. </p>
+     */
+    private static final class YearCache
+        extends LinkedHashMap<Integer, List<ZonalTransition>> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 1L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long hits = 0;
+        private long misses = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearCache() {
+            super(16, 0.75f, true);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<ZonalTransition>> eldest) {
+
+            if (this.size() > MAX_CACHED_YEARS) {
+                CACHE_EVICTIONS.increment();
+                return true;
+            }
+
+            return false;
+
+        }
+
+    }
+
 }
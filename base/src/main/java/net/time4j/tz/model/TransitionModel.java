@@ -329,4 +329,96 @@ public abstract class TransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Offers statistics about the year caches of rule-based transition models. </p>
+     *
+     * <p>Rule-based models precompute the transitions of a window of years around the current year.
+     * Transitions of other years are stored in a small bounded cache per model. The counters
+     * aggregate the lookups in these caches over all models since start of the application.
+     * Lookups within the precomputed window are not counted. </p>
+     *
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bietet Statistiken &uuml;ber die Jahres-Caches von regelbasierten &Uuml;bergangsmodellen. </p>
+     *
+     * <p>Regelbasierte Modelle berechnen die &Uuml;berg&auml;nge eines Fensters von Jahren um das
+     * aktuelle Jahr herum vorab. &Uuml;berg&auml;nge anderer Jahre werden in einem kleinen begrenzten
+     * Cache je Modell gespeichert. Die Z&auml;hler fassen die Zugriffe auf diese Caches &uuml;ber
+     * alle Modelle seit dem Start der Anwendung zusammen. Zugriffe innerhalb des vorberechneten
+     * Fensters werden nicht gez&auml;hlt. </p>
+     *
+     * @since   5.6
+     */
+    public static class Cache {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of years whose transitions were found in a year cache. </p>
+         *
+         * @return  count of cache hits
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Jahre, deren &Uuml;berg&auml;nge in einem Jahres-Cache
+         * gefunden wurden. </p>
+         *
+         * @return  count of cache hits
+         * @since   5.6
+         */
+        public static long getHitCount() {
+
+            return RuleBasedTransitionModel.CACHE_HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of years whose transitions had to be computed. </p>
+         *
+         * @return  count of cache misses
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Jahre, deren &Uuml;berg&auml;nge berechnet werden mu&szlig;ten. </p>
+         *
+         * @return  count of cache misses
+         * @since   5.6
+         */
+        public static long getMissCount() {
+
+            return RuleBasedTransitionModel.CACHE_MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of years which were removed from a year cache because it exceeded
+         * its maximum size. </p>
+         *
+         * @return  count of evicted cache entries
+         * @since   5.6
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Jahre, die aus einem Jahres-Cache entfernt wurden, weil er seine
+         * Maximalgr&ouml;&szlig;e &uuml;berschritten hat. </p>
+         *
+         * @return  count of evicted cache entries
+         * @since   5.6
+         */
+        public static long getEvictionCount() {
+
+            return RuleBasedTransitionModel.CACHE_EVICTIONS.sum();
+
+        }
+
+    }
+
 }
@@ -0,0 +1,117 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EpochColumnsTest {
+
+    @Test
+    public void splitEpochSecondsAcrossDST() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long begin = PlainTimestamp.of(2016, 3, 26, 0, 0).atUTC().getPosixTime();
+        long[] epochs = new long[200];
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = begin + i * 1799L; // about two days in half hour steps
+        }
+        epochs[100] = -1; // jump back to 1969
+        int n = epochs.length;
+        int[] year = new int[n];
+        int[] month = new int[n];
+        int[] day = new int[n];
+        int[] hour = new int[n];
+        int[] minute = new int[n];
+        int[] second = new int[n];
+        EpochColumns.splitEpochSeconds(epochs, tz, year, month, day, hour, minute, second);
+        for (int i = 0; i < n; i++) {
+            PlainTimestamp expected = Moment.of(epochs[i], TimeScale.POSIX).toZonalTimestamp(tz.getID());
+            assertThat(
+                PlainTimestamp.of(year[i], month[i], day[i], hour[i], minute[i], second[i]),
+                is(expected));
+        }
+    }
+
+    @Test
+    public void splitEpochMillisWithOptionalColumns() {
+        ZonalOffset offset = ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 3, 30);
+        long[] millis = {-1L, 0L, 1_456_789_012_345L};
+        int[] day = new int[3];
+        int[] ms = new int[3];
+        EpochColumns.splitEpochMillis(millis, Timezone.of(offset), null, null, day, null, null, null, ms);
+        assertThat(day[0], is(31));
+        assertThat(ms[0], is(999));
+        assertThat(day[1], is(31));
+        assertThat(ms[1], is(0));
+        assertThat(day[2], is(29));
+        assertThat(ms[2], is(345));
+    }
+
+    @Test
+    public void combineToEpochSecondsAcrossDST() {
+        Timezone tz = Timezone.of("America/New_York");
+        int n = 96;
+        int[] year = new int[n];
+        int[] month = new int[n];
+        int[] day = new int[n];
+        int[] hour = new int[n];
+        int[] minute = new int[n];
+        long[] epochs = new long[n];
+        for (int i = 0; i < n; i++) {
+            PlainTimestamp tsp = PlainTimestamp.of(2016, 11, 5, 12, 0).plus(i * 30, ClockUnit.MINUTES);
+            if (i >= 48) {
+                tsp = PlainTimestamp.of(2016, 3, 12, 12, 0).plus((i - 48) * 30, ClockUnit.MINUTES);
+            }
+            year[i] = tsp.getYear();
+            month[i] = tsp.getMonth();
+            day[i] = tsp.getDayOfMonth();
+            hour[i] = tsp.getHour();
+            minute[i] = tsp.getMinute();
+        }
+        EpochColumns.combineToEpochSeconds(year, month, day, hour, minute, null, tz, epochs);
+        for (int i = 0; i < n; i++) {
+            Moment expected = PlainTimestamp.of(year[i], month[i], day[i], hour[i], minute[i]).in(tz);
+            assertThat(epochs[i], is(expected.getPosixTime()));
+        }
+    }
+
+    @Test
+    public void roundTripEpochMillis() {
+        Timezone tz = Timezone.of("Asia/Kolkata");
+        long[] millis = {0L, 1_234_567_890_123L, -62_135_596_800_001L};
+        int n = millis.length;
+        int[] year = new int[n];
+        int[] month = new int[n];
+        int[] day = new int[n];
+        int[] hour = new int[n];
+        int[] minute = new int[n];
+        int[] second = new int[n];
+        int[] ms = new int[n];
+        long[] result = new long[n];
+        EpochColumns.splitEpochMillis(millis, tz, year, month, day, hour, minute, second, ms);
+        EpochColumns.combineToEpochMillis(year, month, day, hour, minute, second, ms, tz, result);
+        for (int i = 0; i < n; i++) {
+            assertThat(result[i], is(millis[i]));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void columnTooShort() {
+        EpochColumns.splitEpochSeconds(new long[2], Timezone.of(ZonalOffset.UTC), new int[1], null, null, null, null, null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void combineInvalidDate() {
+        EpochColumns.combineToEpochSeconds(
+            new int[] {2015}, new int[] {2}, new int[] {29}, null, null, null, Timezone.of(ZonalOffset.UTC), new long[1]);
+    }
+
+}
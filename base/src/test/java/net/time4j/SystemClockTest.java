@@ -80,6 +80,49 @@ public class SystemClockTest {
         );
     }
 
+    @Test
+    public void monotonicSubSeconds() {
+        SystemClock clock = SystemClock.MONOTONIC;
+        long delta = clock.currentTimeInMillis() - System.currentTimeMillis();
+        assertThat("Observed delta: " + delta, Math.abs(delta) < 20, is(true));
+        long micros = clock.currentTimeInMicros();
+        long nanos = clock.currentTimeInNanos();
+        assertThat(nanos / 1000 >= micros && nanos / 1000 - micros < 20000, is(true));
+    }
+
+    @Test
+    public void highResolution() {
+        SystemClock clock = SystemClock.HIGH_RESOLUTION;
+        long delta = clock.currentTimeInMillis() - System.currentTimeMillis();
+        assertThat("Observed delta: " + delta, Math.abs(delta) < 20, is(true));
+        long previous = clock.currentTimeInNanos();
+        boolean subMillis = false;
+        for (int i = 0; i < 1000; i++) {
+            long nanos = clock.currentTimeInNanos();
+            assertThat(nanos >= previous, is(true));
+            subMillis = subMillis || (nanos % 1000000 != 0);
+            previous = nanos;
+        }
+        assertThat(subMillis, is(true));
+        Moment moment = clock.currentTime();
+        assertThat(
+            Math.abs(moment.until(SystemClock.INSTANCE.currentTime(), TimeUnit.MILLISECONDS)) < 20,
+            is(true));
+        long utc = clock.realTimeInNanos() / 1000000000;
+        long unix = clock.currentTimeInNanos() / 1000000000;
+        assertThat(Math.abs(LeapSeconds.getInstance().strip(utc) - unix) <= 1, is(true));
+        assertThat(clock.recalibrated().currentTimeInNanos() >= previous - 1000000, is(true));
+    }
+
+    @Test
+    public void highResolutionSynchronizedWith() {
+        final Moment start = PlainTimestamp.of(2000, 1, 1, 0, 0).atUTC();
+        SystemClock clock = SystemClock.HIGH_RESOLUTION.synchronizedWith(() -> start);
+        long delta = start.until(clock.currentTime(), TimeUnit.MILLISECONDS);
+        assertThat("Observed delta: " + delta, delta >= 0 && delta < 1000, is(true));
+        assertThat(clock.recalibrated().currentTime().isAfter(PlainTimestamp.of(2010, 1, 1, 0, 0).atUTC()), is(true));
+    }
+
     @Test
     public void platformView() {
         System.out.println(SystemClock.inPlatformView().now());
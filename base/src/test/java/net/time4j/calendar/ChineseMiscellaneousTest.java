@@ -100,6 +100,21 @@ public class ChineseMiscellaneousTest {
 //        }
     }
 
+    @Test
+    public void yearTableConsistency() {
+        EastAsianCS<ChineseCalendar> calsys = ChineseCalendar.nowInSystemTime().getCalendarSystem();
+        long start = PlainDate.of(2032, 1, 1).getDaysSinceEpochUTC(); // leap month 11 in 2033
+        long end = PlainDate.of(2035, 1, 1).getDaysSinceEpochUTC();
+
+        for (long utcDays = start; utcDays <= end; utcDays++) {
+            ChineseCalendar cal = calsys.transform(utcDays);
+            assertThat(cal, is(calsys.transformAstronomically(utcDays)));
+            long nextNewMoon = calsys.newMoonOnOrAfter(utcDays + 1);
+            assertThat(cal.lengthOfMonth(), is((int) (cal.getDayOfMonth() + nextNewMoon - utcDays - 1)));
+            assertThat(calsys.transform(cal), is(utcDays));
+        }
+    }
+
 /* Generating method for leap month infos
 
     @Test
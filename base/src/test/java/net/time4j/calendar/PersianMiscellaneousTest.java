@@ -7,6 +7,7 @@ import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.JulianDay;
+import net.time4j.calendar.astro.SolarTime;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.engine.ChronoElement;
@@ -270,6 +271,26 @@ public class PersianMiscellaneousTest {
         }
     }
 
+    @Test
+    public void astronomicalNewYearWithManyOffsets() {
+        for (int minutes = -720; minutes <= 840; minutes += 60) { // more offsets than cached tables
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(minutes * 60);
+            for (int year = 2; year <= 2378; year += 37) {
+                PlainTimestamp tsp =
+                    AstronomicalSeason.VERNAL_EQUINOX.inYear(year + 621).get(SolarTime.apparentAt(offset));
+                PlainDate expected = tsp.getCalendarDate();
+                if (tsp.getHour() >= 12) {
+                    expected = expected.plus(1, CalendarUnit.DAYS);
+                }
+                long utcDays = expected.getDaysSinceEpochUTC();
+                PersianCalendar newYear = PersianCalendar.of(year, 1, 1);
+                assertThat(PersianAlgorithm.ASTRONOMICAL.transform(utcDays, offset), is(newYear));
+                assertThat(PersianAlgorithm.ASTRONOMICAL.transform(utcDays - 1, offset).getYear(), is(year - 1));
+                assertThat(PersianAlgorithm.ASTRONOMICAL.transform(newYear, offset), is(utcDays));
+            }
+        }
+    }
+
     @Test
     public void formatPersianCalendar() throws ParseException {
         ChronoFormatter<PersianCalendar> formatter = // y MMMM d, EEEE
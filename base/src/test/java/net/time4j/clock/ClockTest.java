@@ -3,8 +3,15 @@ package net.time4j.clock;
 import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.PrettyTime;
 import net.time4j.SystemClock;
 import net.time4j.base.TimeSource;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -93,4 +100,36 @@ public class ClockTest {
         assertThat(clock.currentTime().getPosixTime() % 86400, is(0L));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void cachedClock() throws InterruptedException {
+        Moment start = PlainTimestamp.of(2019, 3, 31, 23, 59).atUTC();
+        AtomicReference<Moment> time = new AtomicReference<>(start);
+        Timezone tz = Timezone.of(ZonalOffset.ofTotalSeconds(7200));
+
+        try (CachedClock clock = CachedClock.start(time::get, tz, 5, MILLISECONDS)) {
+            assertThat(clock.getResolution(MICROSECONDS), is(5000L));
+            assertThat(clock.currentTime() == clock.currentTime(), is(true));
+            assertThat(clock.now(), is(PlainTimestamp.of(2019, 4, 1, 1, 59)));
+            assertThat(clock.today(), is(PlainDate.of(2019, 4, 1)));
+
+            Moment next = start.plus(1, DAYS);
+            time.set(next);
+            for (int i = 0; (i < 1000) && !clock.currentTime().equals(next); i++) {
+                Thread.sleep(1);
+            }
+            assertThat(clock.currentTime(), is(next));
+            assertThat(clock.today(), is(PlainDate.of(2019, 4, 2)));
+            assertThat(clock.inZonalView(ZonalOffset.UTC).today(), is(PlainDate.of(2019, 4, 1)));
+            assertThat(
+                PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock).printRelative(start, ZonalOffset.UTC),
+                is("yesterday"));
+
+            clock.close();
+            Moment last = next.plus(1, MINUTES);
+            time.set(last);
+            assertThat(clock.currentTime(), is(last));
+            assertThat(clock.now(), is(PlainTimestamp.of(2019, 4, 2, 2, 0)));
+        }
+    }
+
+}
@@ -923,4 +923,109 @@ public class Iso8601FormatTest {
             is("2012-06-30T23:59:60.000Z"));
     }
 
+    @Test
+    public void fastParsingConsistentWithEngine() throws ParseException {
+        String[] timestamps = {
+            "2016-02-29T10:45", "2016-02-29T10:45:30", "2016-02-29T10:45:30,123", "2016-02-29T10:45:30.000000001",
+            "20160229T1045", "20160229T104530,5", "0000-01-01T00:00", "9999-12-31T23:59:59,999999999"
+        };
+        for (String text : timestamps) {
+            PlainTimestamp expected =
+                (text.indexOf('-') > 0 ? Iso8601Format.EXTENDED_DATE_TIME : Iso8601Format.BASIC_DATE_TIME).parse(text);
+            assertThat(Iso8601Format.parseTimestamp(text), is(expected));
+        }
+        String[] moments = {
+            "2016-02-29T10:45Z", "2016-02-29T10:45:30,123+05:30", "2016-02-29T10:45:30-08:00",
+            "20160229T1045Z", "20160229T104530,5-0330", "2012-06-30T23:59:60Z", "2016-02-29T10:45-00:00",
+            "2016-02-29T10:45+05", "1969-12-31T23:59:59,999Z"
+        };
+        for (String text : moments) {
+            Moment expected =
+                (text.charAt(4) == '-'
+                    ? Iso8601Format.EXTENDED_DATE_TIME_OFFSET
+                    : Iso8601Format.BASIC_DATE_TIME_OFFSET).parse(text);
+            assertThat(Iso8601Format.parseMoment(text), is(expected));
+        }
+        assertThat(Iso8601Format.parseDate("2016-02-29"), is(PlainDate.of(2016, 2, 29)));
+        assertThat(Iso8601Format.parseDate("20160229"), is(PlainDate.of(2016, 2, 29)));
+        assertThat(Iso8601Format.parseTimestamp("2016-02-29T24:00"), is(PlainTimestamp.of(2016, 3, 1, 0, 0)));
+        assertThat(Iso8601Format.parseTimestamp("+12016-02-29T10:00"), is(PlainTimestamp.of(12016, 2, 29, 10, 0)));
+    }
+
+    @Test(expected=ParseException.class)
+    public void fastParsingInvalidDate() throws ParseException {
+        Iso8601Format.parseDate("2015-02-29");
+    }
+
+    @Test(expected=ParseException.class)
+    public void fastParsingTooManyFractionDigits() throws ParseException {
+        Iso8601Format.parseTimestamp("2016-02-29T10:45:30,1234567890");
+    }
+
+    @Test(expected=ParseException.class)
+    public void fastParsingTrailingChars() throws ParseException {
+        Iso8601Format.parseMoment("2016-02-29T10:45Zx");
+    }
+
+    @Test
+    public void parseToPrimitives() throws ParseException {
+        String[] moments = {
+            "key:2016-02-29T10:45Z", "key:20160229T104530,123456789+0530", "key:1969-12-31T23:59:59.999-01:00",
+            "key:2016-12-31T23:59:60Z", "key:2016-W52-6T10:45+01:00"
+        };
+        int[] nanos = new int[1];
+        for (String text : moments) {
+            Moment expected = Iso8601Format.parseMoment(text.substring(4));
+            assertThat(Iso8601Format.parseToPosixTime(text, 4, nanos), is(expected.getPosixTime()));
+            assertThat(nanos[0], is(expected.getNanosecond()));
+            assertThat(
+                Iso8601Format.parseToEpochMillis(text, 4),
+                is(Math.multiplyExact(expected.getPosixTime(), 1000L) + expected.getNanosecond() / 1_000_000));
+        }
+        assertThat(Iso8601Format.parseToEpochDays("2016-02-29", 0), is(16860L));
+        assertThat(Iso8601Format.parseToEpochDays("x19691231", 1), is(-1L));
+        assertThat(Iso8601Format.parseToEpochDays("2016-W09-1", 0), is(16860L));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void parseToEpochMillisOverflow() throws ParseException {
+        Iso8601Format.parseToEpochMillis("+999999999-12-31T23:59:59Z", 0);
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseToEpochDaysWithTrailingChars() throws ParseException {
+        Iso8601Format.parseToEpochDays("2016-02-29x", 0);
+    }
+
+    @Test
+    public void fastPrintingConsistentWithEngine() {
+        PlainTimestamp[] timestamps = {
+            PlainTimestamp.of(2016, 2, 29, 10, 0),
+            PlainTimestamp.of(2016, 2, 29, 10, 0, 5),
+            PlainTimestamp.of(PlainDate.of(2016, 2, 29), PlainTime.of(10, 0, 5, 120_000_000)),
+            PlainTimestamp.of(PlainDate.of(2016, 2, 29), PlainTime.of(10, 0, 0, 1)),
+            PlainTimestamp.of(12016, 2, 29, 10, 0),
+            PlainTimestamp.of(-16, 2, 29, 10, 0)
+        };
+        for (PlainTimestamp tsp : timestamps) {
+            StringBuilder basic = new StringBuilder();
+            StringBuilder extended = new StringBuilder();
+            Iso8601Format.print(tsp, false, basic);
+            Iso8601Format.print(tsp, true, extended);
+            assertThat(basic.toString(), is(Iso8601Format.BASIC_DATE_TIME.print(tsp)));
+            assertThat(extended.toString(), is(Iso8601Format.EXTENDED_DATE_TIME.print(tsp)));
+            StringBuilder date = new StringBuilder();
+            Iso8601Format.print(tsp.getCalendarDate(), true, date);
+            assertThat(date.toString(), is(Iso8601Format.EXTENDED_CALENDAR_DATE.print(tsp.getCalendarDate())));
+            Moment moment = tsp.atUTC();
+            StringBuilder m = new StringBuilder();
+            Iso8601Format.print(moment, true, m);
+            assertThat(m.toString(), is(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.print(moment)));
+        }
+        Moment ls = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        StringBuilder buffer = new StringBuilder("x");
+        Iso8601Format.print(ls, false, buffer);
+        assertThat(buffer.toString(), is("x" + Iso8601Format.BASIC_DATE_TIME_OFFSET.print(ls)));
+    }
+
 }
@@ -1,6 +1,7 @@
 package net.time4j.format.expert;
 
 import net.time4j.Moment;
+import net.time4j.Month;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
@@ -12,11 +13,14 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.ChronoException;
 import net.time4j.format.Attributes;
+import net.time4j.format.CalendarText;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.Leniency;
 import net.time4j.format.NumberSystem;
+import net.time4j.format.OutputContext;
 import net.time4j.format.PluralCategory;
 import net.time4j.format.TemporalFormatter;
+import net.time4j.format.TextAccessor;
 import net.time4j.format.TextElement;
 import net.time4j.format.TextWidth;
 import net.time4j.history.ChronoHistory;
@@ -34,8 +38,10 @@ import java.text.DateFormat;
 import java.text.DateFormatSymbols;
 import java.text.FieldPosition;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -936,6 +942,184 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void parseTimezoneIdentifiers() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm VV", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        PlainTimestamp tsp = PlainTimestamp.of(2012, 5, 10, 12, 0);
+        for (String zone : new String[] {"America/Indiana/Indianapolis", "America/Indianapolis", "Asia/Calcutta"}) {
+            assertThat(f.parse("2012-05-10 12:00 " + zone), is(tsp.in(Timezone.of(zone))));
+        }
+        assertThat(f.parse("2012-05-10 12:00 UTC+02:00"), is(tsp.at(ZonalOffset.ofHours(AHEAD_OF_UTC, 2))));
+        assertThat(f.parse("2012-05-10 12:00 Z"), is(tsp.atUTC()));
+        ParseLog plog = new ParseLog();
+        assertThat(
+            f.parse("2012-05-10 12:00 Europe/Berlinx", plog),
+            nullValue());
+        assertThat(plog.getErrorMessage(), is("Cannot parse to timezone id: Europe/Berlinx"));
+        plog = new ParseLog();
+        f.parse("2012-05-10 12:00 Asia/Kolkata]", plog);
+        assertThat(plog.getPosition(), is(29));
+        plog = new ParseLog();
+        assertThat(
+            f.parse("2012-05-10 12:00 Europe/Berlin-", plog),
+            is(tsp.in(Timezone.of("Europe/Berlin"))));
+        assertThat(plog.getPosition(), is(30));
+    }
+
+    @Test
+    public void parseTextFormsWithIndex() {
+        for (Locale loc : new Locale[] {Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("ru"), new Locale("es")}) {
+            for (TextWidth width : TextWidth.values()) {
+                TextAccessor accessor = CalendarText.getIsoInstance(loc).getStdMonths(width, OutputContext.FORMAT);
+                for (Month month : Month.values()) {
+                    String text = accessor.print(month);
+                    ParsePosition pp = new ParsePosition(0);
+                    Month parsed = accessor.parse(text.toUpperCase(loc) + "|", pp, Month.class, Leniency.SMART);
+                    if (!text.toUpperCase(loc).equals(text) && (width != TextWidth.NARROW)) {
+                        ParsePosition strict = new ParsePosition(0);
+                        Month expected = accessor.parse(text + "|", strict, Month.class, Leniency.STRICT);
+                        assertThat(expected, is(month));
+                        assertThat(strict.getIndex(), is(text.length()));
+                    }
+                    if (width != TextWidth.NARROW) { // narrow names are ambivalent
+                        assertThat(parsed, is(month));
+                        assertThat(pp.getIndex(), is(text.length()));
+                    }
+                }
+            }
+        }
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("may", pp, Month.class, Leniency.STRICT), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+        pp = new ParsePosition(2);
+        assertThat(accessor.parse("x Ma", pp, Month.class, Leniency.SMART), nullValue());
+        assertThat(pp.getErrorIndex(), is(2));
+    }
+
+    @Test
+    public void parseLookupTextWithIndex() throws ParseException {
+        Map<Weekday, String> lookup = new EnumMap<>(Weekday.class);
+        for (Weekday wd : Weekday.values()) {
+            lookup.put(wd, wd.name().toLowerCase(Locale.ROOT));
+        }
+        lookup.put(Weekday.MONDAY, "Mon");
+        lookup.put(Weekday.TUESDAY, "Mo");
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT)
+                .addPattern("uuuu-MM-dd ", PatternType.CLDR)
+                .addText(PlainDate.DAY_OF_WEEK, lookup)
+                .build();
+        assertThat(f.parse("2019-01-07 Mon"), is(PlainDate.of(2019, 1, 7)));
+        assertThat(f.parse("2019-01-07 MON"), is(PlainDate.of(2019, 1, 7)));
+        assertThat(f.parse("2019-01-13 SUNDAY"), is(PlainDate.of(2019, 1, 13)));
+        ParseLog plog = new ParseLog();
+        assertThat(f.parse("2019-01-08 Mo.", plog), is(PlainDate.of(2019, 1, 8))); // shorter form
+        assertThat(plog.getPosition(), is(13));
+        assertThat(
+            f.with(Attributes.PARSE_CASE_INSENSITIVE, false).parse("2019-01-13 SUNDAY", new ParseLog()),
+            nullValue());
+    }
+
+    @Test
+    public void parseWithReusableContext() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm[:ss]", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter.ParseContext<PlainTimestamp> ctx = f.newParseContext();
+        assertThat(ctx.parse("2019-01-07 10:15:30"), is(PlainTimestamp.of(2019, 1, 7, 10, 15, 30)));
+        assertThat(ctx.parse("2019-01-08 11:16"), is(PlainTimestamp.of(2019, 1, 8, 11, 16)));
+        assertThat(ctx.parse("2019-13-08 11:16", 0), nullValue());
+        assertThat(ctx.getLog().isError(), is(true));
+        assertThat(ctx.parse("xy2020-02-29 23:59", 2), is(PlainTimestamp.of(2020, 2, 29, 23, 59)));
+        assertThat(ctx.getLog().isError(), is(false));
+        assertThat(ctx.getLog().getPosition(), is(18));
+        try {
+            ctx.parse("2019-01-07 10:15:30xyz");
+            fail("Trailing characters not detected.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(19));
+        }
+
+        ChronoFormatter<PlainDate> g =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd|dd.MM.uuuu|EEE, d. MMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        ChronoFormatter.ParseContext<PlainDate> dctx = g.newParseContext();
+        for (int i = 0; i < 3; i++) {
+            assertThat(dctx.parse("2019-01-07"), is(PlainDate.of(2019, 1, 7)));
+            assertThat(dctx.parse("08.02.2020"), is(PlainDate.of(2020, 2, 8)));
+            assertThat(dctx.parse("Mon, 7. Jan 2019"), is(PlainDate.of(2019, 1, 7)));
+            assertThat(dctx.parse("Tue, 32. Jan 2019", 0), nullValue());
+            assertThat(dctx.parse("Tue, 7. Jan 2019", 0), is(g.parse("Tue, 7. Jan 2019", new ParseLog())));
+            assertThat(dctx.parse("Tue, 8. Jan 2019", 0), is(PlainDate.of(2019, 1, 8)));
+        }
+    }
+
+    @Test
+    public void patternCache() {
+        ChronoFormatter.Cache.clear();
+        long hits = ChronoFormatter.Cache.getHitCount();
+        long misses = ChronoFormatter.Cache.getMissCount();
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f3 = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        assertThat(f1 == f2, is(true));
+        assertThat(f1 == f3, is(false));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(hits + 1));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(misses + 2));
+        ChronoFormatter<Moment> m1 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> m2 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, () -> "Europe/Paris");
+        assertThat(m1 == m2, is(false));
+        assertThat(m2.getAttributes().get(Attributes.TIMEZONE_ID).canonical(), is("Europe/Paris"));
+        ChronoFormatter.Cache.setMaximumSize(2);
+        assertThat(ChronoFormatter.Cache.size(), is(2));
+        assertThat(ChronoFormatter.Cache.getEvictionCount() > 0, is(true));
+        ChronoFormatter.Cache.setCacheActive(false);
+        assertThat(
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN)
+                == ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN),
+            is(false));
+        ChronoFormatter.Cache.setCacheActive(true);
+        ChronoFormatter.Cache.setMaximumSize(256);
+    }
+
+    @Test
+    public void patternCacheEviction() {
+        ChronoFormatter.Cache.clear();
+        ChronoFormatter.Cache.setMaximumSize(2);
+        try {
+            ChronoFormatter<PlainDate> hot = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+            assertThat(ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT) == hot, is(true));
+            ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.ROOT);
+            assertThat(ChronoFormatter.Cache.size(), is(2));
+            assertThat(ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT) == hot, is(true));
+
+            ChronoFormatter.Cache.setMaximumSize(0);
+            long misses = ChronoFormatter.Cache.getMissCount();
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+            assertThat(ChronoFormatter.Cache.getMissCount(), is(misses));
+        } finally {
+            ChronoFormatter.Cache.setMaximumSize(256);
+        }
+    }
+
+    @Test
+    public void patternCacheWithTimezoneRefresh() {
+        ChronoFormatter.Cache.clear();
+        ChronoFormatter<Moment> m1 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, () -> "Europe/Paris");
+        Timezone.Cache.refresh();
+        ChronoFormatter<Moment> m2 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, () -> "Asia/Tokyo");
+        assertThat(ChronoFormatter.Cache.size(), is(1));
+        assertThat(m1.getAttributes().get(Attributes.TIMEZONE_ID).canonical(), is("Europe/Paris"));
+        assertThat(m2.getAttributes().get(Attributes.TIMEZONE_ID).canonical(), is("Asia/Tokyo"));
+        assertThat(m2.format(Moment.UNIX_EPOCH), is("1970-01-01 09:00"));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
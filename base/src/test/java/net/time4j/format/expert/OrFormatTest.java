@@ -8,7 +8,9 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -49,6 +51,44 @@ public class OrFormatTest {
         assertThat(f.format(date2), is("365"));
     }
 
+    @Test
+    public void printToReusedBuffer() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .build();
+        StringBuilder buffer = new StringBuilder("x=");
+        f.printTo(PlainDate.of(2015, 12, 31), buffer);
+        buffer.append(';');
+        f.printTo(PlainDate.of(2015, 1, 1), buffer);
+        assertThat(buffer.toString(), is("x=365;01"));
+    }
+
+    @Test
+    public void printWithOrInsideOptional() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.YEAR, 4)
+                .startOptionalSection()
+                .addLiteral('-')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addLiteral('/')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .endSection()
+                .build();
+        StringBuilder buffer = new StringBuilder();
+        Set<ElementPosition> positions = f.print(PlainDate.of(2015, 12, 31), buffer, f.getAttributes());
+        assertThat(buffer.toString(), is("2015/365"));
+        assertThat(positions.size(), is(2));
+        Iterator<ElementPosition> iter = positions.iterator();
+        assertThat(iter.next(), is(new ElementPosition(PlainDate.YEAR, 0, 4)));
+        assertThat(iter.next(), is(new ElementPosition(PlainDate.DAY_OF_YEAR, 5, 8)));
+        assertThat(f.format(PlainDate.of(2015, 1, 9)), is("2015-09"));
+    }
+
     @Test
     public void parse() throws ParseException {
         ChronoFormatter<PlainDate> f =
@@ -4,11 +4,16 @@ import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
 import net.time4j.engine.ChronoException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -269,4 +274,43 @@ public class HolidayTest {
         assertThat(hm.isBusinessDay(PlainDate.of(2017, 2, 4)), is(false));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void indexedHolidays() {
+        List<PlainDate> holidays =
+            Arrays.asList(
+                PlainDate.of(2017, 5, 1),
+                PlainDate.of(2017, 5, 25),
+                PlainDate.of(2017, 6, 5),
+                PlainDate.of(2017, 6, 5), // duplicate
+                PlainDate.of(2017, 12, 24), // Sunday
+                PlainDate.of(2017, 12, 25),
+                PlainDate.of(2017, 12, 26));
+        HolidayModel indexed = HolidayModel.of(EnumSet.of(Weekday.FRIDAY, Weekday.SATURDAY), holidays);
+        HolidayModel simple =
+            date -> (
+                (date.getDayOfWeek() == Weekday.FRIDAY)
+                || (date.getDayOfWeek() == Weekday.SATURDAY)
+                || holidays.contains(date));
+        PlainDate start = PlainDate.of(2017, 4, 20);
+
+        for (int i = -80; i <= 260; i++) {
+            PlainDate end = start.plus(i, CalendarUnit.DAYS);
+            assertThat(indexed.test(end), is(simple.test(end)));
+            assertThat(start.until(end, indexed.businessDays()), is(start.until(end, simple.businessDays())));
+            assertThat(end.until(start, indexed.businessDays()), is(end.until(start, simple.businessDays())));
+            assertThat(start.plus(i, indexed.businessDays()), is(start.plus(i, simple.businessDays())));
+            assertThat(end.plus(i, indexed.businessDays()), is(end.plus(i, simple.businessDays())));
+            if (i >= 0) {
+                DateInterval interval = DateInterval.between(start, end);
+                assertThat(interval.get(indexed.countOfBusinessDays()), is(interval.get(simple.countOfBusinessDays())));
+                assertThat(interval.get(indexed.countOfHolidays()), is(interval.get(simple.countOfHolidays())));
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void indexedHolidaysWithoutBusinessDays() {
+        HolidayModel.of(EnumSet.allOf(Weekday.class), Collections.emptyList());
+    }
+
+}
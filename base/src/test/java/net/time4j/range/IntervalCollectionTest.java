@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -14,10 +15,13 @@ import java.text.ParseException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1288,124 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+    @Test
+    public void sweepAlgebra() {
+        for (int n : new int[] {5, 300, 20000}) { // large size triggers parallel processing
+            Random random = new Random(n);
+            IntervalCollection<PlainDate> a = IntervalCollection.onDateAxis().plus(randomIntervals(random, n));
+            IntervalCollection<PlainDate> b = IntervalCollection.onDateAxis().plus(randomIntervals(random, n));
+            BitSet ba = cover(a.getIntervals());
+            BitSet bb = cover(b.getIntervals());
+
+            BitSet expected = (BitSet) ba.clone();
+            expected.or(bb);
+            assertBlocks(a.union(b).getIntervals(), expected);
+            assertBlocks(toList(a.sweep().union(a.iterator(), b.iterator())), expected);
+            assertBlocks(a.withBlocks().getIntervals(), ba);
+            assertBlocks(toList(a.sweep().blocks(a.iterator())), ba);
+
+            expected = (BitSet) ba.clone();
+            expected.and(bb);
+            assertBlocks(a.intersect(b).getIntervals(), expected);
+            assertBlocks(toList(a.sweep().intersect(a.iterator(), b.iterator())), expected);
+
+            expected = (BitSet) ba.clone();
+            expected.andNot(bb);
+            assertThat(cover(a.minus(b).getIntervals()), is(expected));
+            assertBlocks(toList(a.sweep().minus(a.iterator(), b.iterator())), expected);
+
+            expected = (BitSet) ba.clone();
+            expected.xor(bb);
+            assertBlocks(a.xor(b).getIntervals(), expected);
+            assertBlocks(toList(a.sweep().xor(a.iterator(), b.iterator())), expected);
+
+            assertThat(toList(a.sweep().gaps(a.iterator())), is(a.withBlocks().withGaps().getIntervals()));
+        }
+    }
+
+    @Test
+    public void sweepAtMaximum() {
+        PlainDate max = PlainDate.axis().getMaximum();
+        DateInterval block = DateInterval.between(max.minus(20, CalendarUnit.DAYS), max);
+        DateInterval tail = DateInterval.between(max.minus(3, CalendarUnit.DAYS), max);
+        IntervalCollection<PlainDate> a =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.between(max.minus(10, CalendarUnit.DAYS), max))
+                .plus(DateInterval.between(max.minus(20, CalendarUnit.DAYS), max.minus(5, CalendarUnit.DAYS)));
+        IntervalCollection<PlainDate> b = IntervalCollection.onDateAxis().plus(tail);
+        IntervalCollection<PlainDate> c =
+            IntervalCollection.onDateAxis().plus(DateInterval.since(tail.getStart().getTemporal()));
+        List<ChronoInterval<PlainDate>> expected = Collections.singletonList(block);
+        DateInterval remainder = DateInterval.between(block.getStart().getTemporal(), max.minus(4, CalendarUnit.DAYS));
+        List<ChronoInterval<PlainDate>> head = Collections.singletonList(remainder);
+
+        assertThat(a.withBlocks().getIntervals(), is(expected));
+        assertThat(toList(a.sweep().blocks(a.iterator())), is(expected));
+        assertThat(a.union(b).getIntervals(), is(expected));
+        assertThat(a.intersect(b).getIntervals(), is(Collections.singletonList(tail)));
+        assertThat(a.intersect(c).getIntervals(), is(Collections.singletonList(tail)));
+        assertThat(a.withBlocks().minus(b).getIntervals(), is(head));
+        assertThat(a.withBlocks().minus(c).getIntervals(), is(head));
+        assertThat(a.xor(c).getIntervals(), is(head));
+        assertThat(toList(a.sweep().xor(a.iterator(), c.iterator())), is(head));
+        assertThat(a.union(c).getIntervals().get(0).getEnd().isInfinite(), is(true));
+        assertThat(toList(a.sweep().gaps(a.iterator())).isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void sweepWithUnsortedInput() {
+        List<ChronoInterval<PlainDate>> unsorted = new ArrayList<>();
+        unsorted.add(DateInterval.atomic(PlainDate.of(2019, 5, 1)));
+        unsorted.add(DateInterval.atomic(PlainDate.of(2019, 4, 1)));
+        toList(IntervalCollection.onDateAxis().sweep().blocks(unsorted.iterator()));
+    }
+
+    private static final PlainDate SWEEP_BASE = PlainDate.of(2000, 1, 1);
+
+    private static List<ChronoInterval<PlainDate>> randomIntervals(
+        Random random,
+        int n
+    ) {
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            PlainDate start = SWEEP_BASE.plus(random.nextInt(n * 10), CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(20), CalendarUnit.DAYS));
+            list.add(random.nextBoolean() ? interval : interval.withOpenEnd());
+        }
+        return list;
+    }
+
+    private static BitSet cover(List<ChronoInterval<PlainDate>> intervals) {
+        BitSet bits = new BitSet();
+        for (ChronoInterval<PlainDate> interval : intervals) {
+            PlainDate end = interval.getEnd().getTemporal();
+            if (interval.getEnd().isOpen()) {
+                end = end.minus(1, CalendarUnit.DAYS);
+            }
+            int from = (int) CalendarUnit.DAYS.between(SWEEP_BASE, interval.getStart().getTemporal());
+            int to = (int) CalendarUnit.DAYS.between(SWEEP_BASE, end);
+            bits.set(from, to + 1);
+        }
+        return bits;
+    }
+
+    private static void assertBlocks(
+        List<ChronoInterval<PlainDate>> blocks,
+        BitSet expected
+    ) {
+        assertThat(cover(blocks), is(expected));
+        for (int i = 1; i < blocks.size(); i++) { // disjunct and neither overlapping nor meeting
+            PlainDate previousEnd = blocks.get(i - 1).getEnd().getTemporal();
+            assertThat(previousEnd.plus(1, CalendarUnit.DAYS).isBefore(blocks.get(i).getStart().getTemporal()), is(true));
+        }
+    }
+
+    private static <T> List<ChronoInterval<T>> toList(Iterator<ChronoInterval<T>> iter) {
+        List<ChronoInterval<T>> list = new ArrayList<>();
+        while (iter.hasNext()) {
+            list.add(iter.next());
+        }
+        return list;
+    }
+
 }
@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -296,4 +298,82 @@ public class IntervalTreeTest {
         assertThat(tree.isEmpty(), is(true));
     }
 
+    @Test
+    public void plusAndMinus() {
+        Random random = new Random(4711);
+        PlainDate base = PlainDate.of(2019, 1, 1);
+        List<DateInterval> expected = new ArrayList<>();
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(expected);
+
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                PlainDate start = base.plus(random.nextInt(365), CalendarUnit.DAYS);
+                DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(10), CalendarUnit.DAYS));
+                IntervalTree<PlainDate, DateInterval> old = tree;
+                tree = tree.plus(interval);
+                expected.add(interval);
+                assertThat(old.size(), is(expected.size() - 1));
+            } else {
+                DateInterval interval = expected.remove(random.nextInt(expected.size()));
+                tree = tree.minus(interval);
+            }
+            assertThat(tree.size(), is(expected.size()));
+        }
+
+        assertThat(tree.minus(DateInterval.atomic(base.minus(1, CalendarUnit.DAYS))) == tree, is(true));
+
+        for (int d = 0; d < 380; d++) {
+            PlainDate date = base.plus(d, CalendarUnit.DAYS);
+            int count = 0;
+            for (DateInterval interval : expected) {
+                if (interval.contains(date)) {
+                    count++;
+                }
+            }
+            assertThat(tree.findIntersections(date).size(), is(count));
+        }
+
+        List<DateInterval> visited = new ArrayList<>(tree);
+        visited.sort(DateInterval.comparator());
+        expected.sort(DateInterval.comparator());
+        assertThat(visited, is(expected));
+    }
+
+    @Test
+    public void mutableTree() throws InterruptedException {
+        MutableIntervalTree<PlainDate, DateInterval> tree = MutableIntervalTree.on(PlainDate.axis());
+        PlainDate base = PlainDate.of(2019, 1, 1);
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    PlainDate start = base.plus(i * 4 + offset, CalendarUnit.DAYS);
+                    DateInterval interval = DateInterval.between(start, start.plus(1, CalendarUnit.DAYS));
+                    tree.add(interval);
+                    if ((i % 2) == 1) {
+                        tree.remove(interval);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(tree.size(), is(1000));
+        assertThat(tree.findIntersections(base).size(), is(1));
+        assertThat(tree.findIntersections(base.plus(1, CalendarUnit.DAYS)).size(), is(2));
+        assertThat(tree.contains(DateInterval.between(base, base.plus(1, CalendarUnit.DAYS))), is(true));
+        assertThat(tree.contains(DateInterval.between(base.plus(4, CalendarUnit.DAYS), base.plus(5, CalendarUnit.DAYS))), is(false));
+
+        IntervalTree<PlainDate, DateInterval> snapshot = tree.snapshot();
+        tree.clear();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(snapshot.size(), is(1000));
+    }
+
 }
@@ -152,6 +152,23 @@ public class OffsetTest {
         ZonalOffset.ofTotalSeconds(-3360, 240000000);
     }
 
+    @Test
+    public void ofTotalSecondsInterned() {
+        for (int total = -18 * 3600; total <= 18 * 3600; total += 60) {
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(total);
+            assertThat(offset.getIntegralAmount(), is(total));
+            assertThat(ZonalOffset.ofTotalSeconds(total) == offset, is(true));
+        }
+        assertThat(ZonalOffset.ofTotalSeconds(0) == ZonalOffset.UTC, is(true));
+        assertThat(ZonalOffset.ofTotalSeconds(-3361) == ZonalOffset.ofTotalSeconds(-3361), is(true));
+        assertThat(ZonalOffset.ofTotalSeconds(-3360, -240000000).getIntegralAmount(), is(-3360));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void ofTotalSecondsOutOfRange3() {
+        ZonalOffset.ofTotalSeconds(-18 * 3600 - 60);
+    }
+
     @Test(expected=IllegalArgumentException.class)
     public void ofTotalSecondsOutOfRange1() {
         ZonalOffset.ofTotalSeconds(18 * 3600 + 1);
@@ -340,6 +340,47 @@ public class PlatformTimezoneTest {
         assertThat(Timezone.ofSystem().getID().canonical(), not(zoneID));
     }
 
+    @Test
+    public void cacheStatistics() {
+        String zoneID = PREFIX + "Asia/Kolkata";
+        Timezone.Cache.refresh();
+        long hits = Timezone.Cache.getHitCount();
+        long misses = Timezone.Cache.getMissCount();
+        Timezone tz = Timezone.of(zoneID);
+        assertThat(Timezone.Cache.getMissCount(), is(misses + 1));
+        assertThat(Timezone.of(zoneID) == tz, is(true));
+        assertThat(Timezone.Cache.getHitCount(), is(hits + 1));
+        Timezone.Cache.setMinimumCacheSize(0);
+        Timezone.Cache.setMinimumCacheSize(10);
+        Timezone.Cache.setCacheActive(false);
+        assertThat(Timezone.of(zoneID) == tz, is(false));
+        assertThat(Timezone.Cache.getMissCount(), is(misses + 2));
+        Timezone.Cache.setCacheActive(true);
+        assertThat(Timezone.Cache.getEvictionCount() >= 0, is(true));
+    }
+
+    @Test
+    public void getOffsetSegments() {
+        Moment start = PlainTimestamp.of(2000, 1, 1, 0, 0).atUTC();
+        Moment end = PlainTimestamp.of(2020, 1, 1, 0, 0).atUTC();
+        for (Timezone tz : new Timezone[] {Timezone.of("Europe/Berlin"), Timezone.of(PREFIX + "Europe/Berlin")}) {
+            OffsetSegments segments = tz.getOffsetSegments(start, end);
+            assertThat(segments.size(), is(41));
+            assertThat(segments.getStart(0), is(start.getPosixTime()));
+            assertThat(segments.getEnd(40), is(end.getPosixTime()));
+            int index = 0;
+            for (long t = start.getPosixTime(); t < end.getPosixTime(); t += 1234) {
+                index = segments.findSegment(t, index);
+                Moment m = Moment.of(t, TimeScale.POSIX);
+                assertThat(segments.getOffset(index), is(tz.getOffset(m)));
+            }
+            assertThat(segments.findSegment(end.getPosixTime(), index), is(-1));
+            assertThat(segments.getTotalOffsetAt(start.getPosixTime()), is(3600));
+        }
+        assertThat(Timezone.of("Europe/Berlin").getOffsetSegments(start, start).size(), is(0));
+        assertThat(ZonalOffset.UTC.getModel().getOffsetSegments(start, end).size(), is(1));
+    }
+
     private static Timezone loadFromPlatform(String tzid) {
         return new PlatformTimezone(Timezone.of(tzid).getID(), tzid);
     }
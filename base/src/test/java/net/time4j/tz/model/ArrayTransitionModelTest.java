@@ -115,6 +115,21 @@ public class ArrayTransitionModelTest {
             is(false));
     }
 
+    @Test
+    public void repeatedSearchWithLastHit() {
+        TransitionHistory model = new ArrayTransitionModel(Arrays.asList(FIRST, SECOND, THIRD, FOURTH));
+        long[] probes = {
+            0L, 1L, 365 * 86400L - 1, 365 * 86400L, -1L, 730 * 86400L, 730 * 86400L - 1,
+            FOURTH.getPosixTime(), FOURTH.getPosixTime() - 1, Long.MIN_VALUE / 2, 10L, 10L
+        };
+        ZonalTransition[] expected = {
+            FIRST, FIRST, FIRST, SECOND, null, THIRD, SECOND, FOURTH, THIRD, null, FIRST, FIRST
+        };
+        for (int i = 0; i < probes.length; i++) {
+            assertThat(model.getStartTransition(new UT(probes[i])), is(expected[i]));
+        }
+    }
+
     @Test
     public void findPreviousTransition1() {
         assertThat(
@@ -7,6 +7,7 @@ import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -382,6 +383,51 @@ public class RulesOfEuropeanUnionTest {
             is(SPRING_1997));
     }
 
+    @Test
+    public void precomputedWindowConsistentWithRules() {
+        RuleBasedTransitionModel model = createModel();
+        long start = PlainTimestamp.of(1900, 1, 1, 0, 0).atUTC().getPosixTime();
+        long end = PlainTimestamp.of(2200, 1, 1, 0, 0).atUTC().getPosixTime();
+        List<ZonalTransition> expected =
+            RuleBasedTransitionModel.getTransitions(
+                new ZonalTransition(Long.MIN_VALUE, 3600, 3600, 0), model.getRules(), start, end);
+        for (int i = 1; i < expected.size(); i++) {
+            ZonalTransition zt = expected.get(i);
+            Moment before = Moment.of(zt.getPosixTime() - 1, TimeScale.POSIX);
+            Moment at = Moment.of(zt.getPosixTime(), TimeScale.POSIX);
+            assertThat(model.getStartTransition(before), is(expected.get(i - 1)));
+            assertThat(model.getStartTransition(at), is(zt));
+            assertThat(model.findNextTransition(before).get(), is(zt));
+            if (i + 1 < expected.size()) {
+                assertThat(model.findNextTransition(at).get(), is(expected.get(i + 1)));
+            }
+        }
+    }
+
+    @Test
+    public void boundedYearCache() {
+        long hits = TransitionModel.Cache.getHitCount();
+        long misses = TransitionModel.Cache.getMissCount();
+        long evictions = TransitionModel.Cache.getEvictionCount();
+        RuleBasedTransitionModel model = createModel();
+        PlainTimestamp tsp = PlainTimestamp.of(3000, 3, 30, 1, 30);
+        model.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime());
+        model.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime());
+        assertThat(model.getCacheMisses(), is(1L));
+        assertThat(model.getCacheHits(), is(1L));
+        for (int year = 3001; year < 3200; year++) {
+            model.getConflictTransition(PlainDate.of(year, 3, 30), PlainTime.of(2));
+        }
+        assertThat(model.getCacheSize(), is(64));
+        assertThat(model.getCacheMisses(), is(200L));
+        PlainDate today = SystemClock.inLocalView().today();
+        model.getValidOffsets(today, PlainTime.midnightAtStartOfDay());
+        assertThat(model.getCacheMisses(), is(200L)); // precomputed window
+        assertThat(TransitionModel.Cache.getHitCount() - hits >= 1L, is(true));
+        assertThat(TransitionModel.Cache.getMissCount() - misses >= 200L, is(true));
+        assertThat(TransitionModel.Cache.getEvictionCount() - evictions >= 136L, is(true));
+    }
+
     private static RuleBasedTransitionModel createModel() {
 
         DaylightSavingRule spring =
@@ -0,0 +1,94 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CalendarConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.ChineseCalendar;
+import net.time4j.calendar.HijriCalendar;
+import net.time4j.calendar.PersianCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion between gregorian dates and some non-gregorian calendars. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarConversionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PlainDate date = PlainDate.of(2019, 10, 31);
+    private final HijriCalendar hijri = this.date.transform(HijriCalendar.class, HijriCalendar.VARIANT_UMALQURA);
+    private final ChineseCalendar chinese = this.date.transform(ChineseCalendar.axis());
+    private final PersianCalendar persian = this.date.transform(PersianCalendar.axis());
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public HijriCalendar toHijri() {
+        return this.date.transform(HijriCalendar.class, HijriCalendar.VARIANT_UMALQURA);
+    }
+
+    @Benchmark
+    public PlainDate fromHijri() {
+        return this.hijri.transform(PlainDate.axis());
+    }
+
+    @Benchmark
+    public ChineseCalendar toChinese() {
+        return this.date.transform(ChineseCalendar.axis());
+    }
+
+    @Benchmark
+    public PlainDate fromChinese() {
+        return this.chinese.transform(PlainDate.axis());
+    }
+
+    @Benchmark
+    public PersianCalendar toPersian() {
+        return this.date.transform(PersianCalendar.axis());
+    }
+
+    @Benchmark
+    public PlainDate fromPersian() {
+        return this.persian.transform(PlainDate.axis());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the creation of calendar dates and the arithmetic of dates and durations. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PlainDate date = PlainDate.of(2019, 3, 31);
+    private final PlainDate other = PlainDate.of(2023, 11, 17);
+    private final PlainTimestamp tsp = PlainTimestamp.of(2019, 3, 31, 17, 45, 30);
+    private final Duration<IsoUnit> duration = Duration.ofPositive().years(1).months(2).days(3).hours(4).build();
+    private int year = 2019;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public PlainDate createDate() {
+        this.year = ((this.year == 2100) ? 1900 : this.year + 1);
+        return PlainDate.of(this.year, 2, 28);
+    }
+
+    @Benchmark
+    public PlainDate plusDays() {
+        return this.date.plus(45, CalendarUnit.DAYS);
+    }
+
+    @Benchmark
+    public PlainDate plusMonths() {
+        return this.date.plus(11, CalendarUnit.MONTHS);
+    }
+
+    @Benchmark
+    public long daysBetween() {
+        return CalendarUnit.DAYS.between(this.date, this.other);
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> durationBetween() {
+        return Duration.inYearsMonthsDays().between(this.date, this.other);
+    }
+
+    @Benchmark
+    public PlainTimestamp plusDuration() {
+        return this.tsp.plus(this.duration);
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> addDurations() {
+        return this.duration.plus(90, ClockUnit.MINUTES);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing of common patterns and of ISO-8601-formats. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<PlainDate> dateFormat =
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMANY);
+    private final ChronoFormatter<PlainDate> textFormat =
+        ChronoFormatter.ofDatePattern("EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.GERMANY);
+    private final ChronoFormatter<PlainTimestamp> timestampFormat =
+        ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+    private final ChronoFormatter<Moment> momentFormat =
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+
+    private final PlainDate date = PlainDate.of(2019, 10, 31);
+    private final PlainTimestamp tsp = PlainTimestamp.of(2019, 10, 31, 23, 59, 1);
+    private final Moment moment = PlainTimestamp.of(2019, 10, 31, 23, 59, 1).atUTC();
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public String printDate() {
+        return this.dateFormat.format(this.date);
+    }
+
+    @Benchmark
+    public PlainDate parseDate() throws ParseException {
+        return this.dateFormat.parse("31.10.2019");
+    }
+
+    @Benchmark
+    public String printTextDate() {
+        return this.textFormat.format(this.date);
+    }
+
+    @Benchmark
+    public PlainDate parseTextDate() throws ParseException {
+        return this.textFormat.parse("Donnerstag, 31. Oktober 2019");
+    }
+
+    @Benchmark
+    public String printTimestamp() {
+        return this.timestampFormat.format(this.tsp);
+    }
+
+    @Benchmark
+    public PlainTimestamp parseTimestamp() throws ParseException {
+        return this.timestampFormat.parse("2019-10-31 23:59:01");
+    }
+
+    @Benchmark
+    public String printMoment() {
+        return this.momentFormat.format(this.moment);
+    }
+
+    @Benchmark
+    public Moment parseMoment() throws ParseException {
+        return this.momentFormat.parse("2019-10-31T23:59:01.000Z");
+    }
+
+    @Benchmark
+    public String printIsoDate() {
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+        return Iso8601Format.parseDate("2019-10-31");
+    }
+
+    @Benchmark
+    public String printIsoMoment() {
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+        return Iso8601Format.parseMoment("2019-10-31T23:59:01Z");
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the set operations of interval collections. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntervalBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private IntervalCollection<PlainDate> first;
+    private IntervalCollection<PlainDate> second;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        this.first = create(0, 7);
+        this.second = create(3, 11);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+        return this.first.union(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersect() {
+        return this.first.intersect(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> minus() {
+        return this.first.minus(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocks() {
+        return this.first.withBlocks();
+    }
+
+    // deterministic sequence of 500 overlapping intervals
+    private static IntervalCollection<PlainDate> create(
+        int shift,
+        int step
+    ) {
+        PlainDate start = PlainDate.of(2000, 1, 1).plus(shift, CalendarUnit.DAYS);
+        List<DateInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            PlainDate d = start.plus(i * step, CalendarUnit.DAYS);
+            intervals.add(DateInterval.between(d, d.plus(i % 13, CalendarUnit.DAYS)));
+        }
+        return IntervalCollection.onDateAxis().plus(intervals);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures timezone lookups and the conversion between moments and local timestamps. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneConversionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/Berlin", "America/New_York", "Asia/Kolkata"})
+    public String zoneID;
+
+    private Timezone tz;
+    private Moment moment;
+    private PlainTimestamp tsp;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        this.tz = Timezone.of(this.zoneID);
+        this.tsp = PlainTimestamp.of(2019, 7, 14, 9, 30);
+        this.moment = this.tsp.in(this.tz);
+    }
+
+    @Benchmark
+    public Timezone lookupTimezone() {
+        return Timezone.of(this.zoneID);
+    }
+
+    @Benchmark
+    public ZonalOffset getOffset() {
+        return this.tz.getOffset(this.moment);
+    }
+
+    @Benchmark
+    public PlainTimestamp momentToTimestamp() {
+        return this.moment.toZonalTimestamp(this.tz.getID());
+    }
+
+    @Benchmark
+    public Moment timestampToMoment() {
+        return this.tsp.in(this.tz);
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2015-2016 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2015-2019 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (JDBCAdapter.java) is part of project Time4J.
  *
@@ -34,6 +34,16 @@ import net.time4j.scale.TimeScale;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 
 /**
  * <p>Serves as bridge to temporal types in JDBC.</p>
@@ -63,7 +73,7 @@ public abstract class JDBCAdapter<S, T>
     
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final boolean WITH_SQL_UTC_CONVERSION =
+    static final boolean WITH_SQL_UTC_CONVERSION =
         Boolean.getBoolean("net.time4j.sql.utc.conversion");
     private static final PlainDate UNIX_DATE = PlainDate.of(0, EpochDays.UNIX);
 
@@ -270,6 +280,417 @@ public abstract class JDBCAdapter<S, T>
 
     }
 
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Reads a SQL-DATE directly as {@code PlainDate}. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). The value is obtained without any legacy type like
+     * {@code java.sql.Timestamp} and without any timezone correction. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  date or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalDate}
+     * @see     TemporalType#LOCAL_DATE
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liest ein SQL-DATE direkt als {@code PlainDate}. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Der Wert wird ohne einen alten Typ wie
+     * {@code java.sql.Timestamp} und ohne Zeitzonenkorrektur ermittelt. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  date or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalDate}
+     * @see     TemporalType#LOCAL_DATE
+     * @since   5.6
+     */
+    public static PlainDate readDate(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        LocalDate value = rs.getObject(column, LocalDate.class);
+        return ((value == null) ? null : TemporalType.LOCAL_DATE.translate(value));
+
+    }
+
+    /**
+     * <p>Reads a SQL-TIME directly as {@code PlainTime}. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). The value is obtained without any legacy type like
+     * {@code java.sql.Timestamp} and without any timezone correction. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  wall time or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalTime}
+     * @see     TemporalType#LOCAL_TIME
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liest ein SQL-TIME direkt als {@code PlainTime}. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Der Wert wird ohne einen alten Typ wie
+     * {@code java.sql.Timestamp} und ohne Zeitzonenkorrektur ermittelt. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  wall time or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalTime}
+     * @see     TemporalType#LOCAL_TIME
+     * @since   5.6
+     */
+    public static PlainTime readTime(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        LocalTime value = rs.getObject(column, LocalTime.class);
+        return ((value == null) ? null : TemporalType.LOCAL_TIME.translate(value));
+
+    }
+
+    /**
+     * <p>Reads a SQL-TIMESTAMP directly as {@code PlainTimestamp}. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). The value is obtained without any legacy type like
+     * {@code java.sql.Timestamp} and without any timezone correction. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  timestamp or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalDateTime}
+     * @see     TemporalType#LOCAL_DATE_TIME
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liest ein SQL-TIMESTAMP direkt als {@code PlainTimestamp}. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Der Wert wird ohne einen alten Typ wie
+     * {@code java.sql.Timestamp} und ohne Zeitzonenkorrektur ermittelt. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  timestamp or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code LocalDateTime}
+     * @see     TemporalType#LOCAL_DATE_TIME
+     * @since   5.6
+     */
+    public static PlainTimestamp readTimestamp(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return ((value == null) ? null : TemporalType.LOCAL_DATE_TIME.translate(value));
+
+    }
+
+    /**
+     * <p>Reads a SQL-TIMESTAMP WITH TIME ZONE directly as {@code Moment}. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). The stored offset is directly used so the result does not
+     * depend on the system timezone. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  moment or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code OffsetDateTime}
+     * @throws  ChronoException if the value is out of range
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liest ein SQL-TIMESTAMP WITH TIME ZONE direkt als {@code Moment}. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Der gespeicherte Offset wird direkt
+     * verwendet, so da&szlig; das Ergebnis nicht von der Systemzeitzone abh&auml;ngt. </p>
+     *
+     * @param   rs          result set positioned on the row to be read
+     * @param   column      column index (1-based)
+     * @return  moment or {@code null} in case of SQL-NULL
+     * @throws  SQLException if the value cannot be read as {@code OffsetDateTime}
+     * @throws  ChronoException if the value is out of range
+     * @since   5.6
+     */
+    public static Moment readMoment(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Moment.of(value.toEpochSecond(), value.getNano(), TimeScale.POSIX);
+        } catch (IllegalArgumentException iae) {
+            throw new ChronoException(iae.getMessage(), iae);
+        }
+
+    }
+
+    /**
+     * <p>Binds given date directly to a parameter of the statement. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). No legacy type like {@code java.sql.Timestamp} will be
+     * created. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   date        date to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_DATE
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bindet das angegebene Datum direkt an einen Parameter der Anweisung. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Es wird kein alter Typ wie
+     * {@code java.sql.Timestamp} erzeugt. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   date        date to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_DATE
+     * @since   5.6
+     */
+    public static void writeDate(
+        PreparedStatement ps,
+        int parameter,
+        PlainDate date
+    ) throws SQLException {
+
+        if (date == null) {
+            ps.setNull(parameter, Types.DATE);
+        } else {
+            ps.setObject(parameter, TemporalType.LOCAL_DATE.from(date));
+        }
+
+    }
+
+    /**
+     * <p>Binds given wall time directly to a parameter of the statement. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). No legacy type like {@code java.sql.Timestamp} will be
+     * created. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   time        wall time to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_TIME
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bindet die angegebene Uhrzeit direkt an einen Parameter der Anweisung. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Es wird kein alter Typ wie
+     * {@code java.sql.Timestamp} erzeugt. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   time        wall time to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_TIME
+     * @since   5.6
+     */
+    public static void writeTime(
+        PreparedStatement ps,
+        int parameter,
+        PlainTime time
+    ) throws SQLException {
+
+        if (time == null) {
+            ps.setNull(parameter, Types.TIME);
+        } else {
+            ps.setObject(parameter, TemporalType.LOCAL_TIME.from(time));
+        }
+
+    }
+
+    /**
+     * <p>Binds given timestamp directly to a parameter of the statement. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). No legacy type like {@code java.sql.Timestamp} will be
+     * created. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   tsp         timestamp to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_DATE_TIME
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bindet den angegebenen Zeitstempel direkt an einen Parameter der Anweisung. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Es wird kein alter Typ wie
+     * {@code java.sql.Timestamp} erzeugt. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   tsp         timestamp to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @see     TemporalType#LOCAL_DATE_TIME
+     * @since   5.6
+     */
+    public static void writeTimestamp(
+        PreparedStatement ps,
+        int parameter,
+        PlainTimestamp tsp
+    ) throws SQLException {
+
+        if (tsp == null) {
+            ps.setNull(parameter, Types.TIMESTAMP);
+        } else {
+            ps.setObject(parameter, TemporalType.LOCAL_DATE_TIME.from(tsp));
+        }
+
+    }
+
+    /**
+     * <p>Binds given moment directly to a parameter of the statement as SQL-TIMESTAMP WITH TIME ZONE in UTC. </p>
+     *
+     * <p>The JDBC-driver must support JDBC 4.2 (Java 8). Leap seconds are not storable. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   moment      moment to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Bindet den angegebenen Moment direkt an einen Parameter der Anweisung als SQL-TIMESTAMP WITH TIME ZONE in
+     * UTC. </p>
+     *
+     * <p>Der JDBC-Treiber mu&szlig; JDBC 4.2 (Java 8) unterst&uuml;tzen. Schaltsekunden sind so nicht
+     * speicherf&auml;hig. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   moment      moment to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects the value
+     * @since   5.6
+     */
+    public static void writeMoment(
+        PreparedStatement ps,
+        int parameter,
+        Moment moment
+    ) throws SQLException {
+
+        if (moment == null) {
+            ps.setNull(parameter, Types.TIMESTAMP_WITH_TIMEZONE);
+        } else {
+            ps.setObject(parameter, TemporalType.INSTANT.from(moment).atOffset(ZoneOffset.UTC));
+        }
+
+    }
+
+    /**
+     * <p>Bestimmt das lokale Datum eines SQL-DATE in der angegebenen Zeitzone. </p>
+     *
+     * @param   source  SQL-DATE
+     * @param   zone    timezone or {@code null} for UTC conversion
+     * @return  PlainDate
+     */
+    static PlainDate toPlainDate(
+        java.sql.Date source,
+        Timezone zone
+    ) {
+
+        long millis = source.getTime(); // UTC zone
+
+        if (zone != null) {
+            Moment unixTime =
+                Moment.of(
+                    MathUtils.floorDivide(millis, 1000),
+                    TimeScale.POSIX);
+            ZonalOffset offset = zone.getOffset(unixTime);
+            millis += offset.getIntegralAmount() * 1000;
+        }
+
+        return PlainDate.axis().getCalendarSystem().transform(
+            MathUtils.floorDivide(millis, 86400 * 1000) - 2 * 365
+        );
+
+    }
+
+    /**
+     * <p>Erzeugt ein SQL-DATE, das den Beginn des angegebenen Datums in der angegebenen Zeitzone
+     * darstellt. </p>
+     *
+     * @param   date    calendar date
+     * @param   zone    timezone or {@code null} for UTC conversion
+     * @return  SQL-DATE
+     * @throws  ChronoException if the year is not in range 1900-9999
+     */
+    static java.sql.Date toSqlDate(
+        PlainDate date,
+        Timezone zone
+    ) {
+
+        int year = date.getYear();
+
+        if ((year < 1900) || (year > 9999)) {
+            throw new ChronoException(
+                "SQL-Date is only defined in year range of 1900-9999.");
+        }
+
+        long millis = // localMillis
+            MathUtils.safeMultiply(
+                date.get(EpochDays.UNIX),
+                86400 * 1000);
+
+        if (zone != null) {
+            ZonalOffset offset =
+                zone.getOffset(date, PlainTime.of(0));
+            millis -= offset.getIntegralAmount() * 1000;
+        }
+
+        return new java.sql.Date(millis);
+
+    }
+
+    /**
+     * <p>Erzeugt einen SQL-TIMESTAMP, der den angegebenen lokalen Zeitstempel in der angegebenen
+     * Zeitzone darstellt. </p>
+     *
+     * @param   tsp     local timestamp
+     * @param   zone    timezone or {@code null} for UTC conversion
+     * @return  SQL-TIMESTAMP
+     */
+    static java.sql.Timestamp toSqlTimestamp(
+        PlainTimestamp tsp,
+        Timezone zone
+    ) {
+
+        long dateMillis = // local millis
+            MathUtils.safeMultiply(
+                tsp.getCalendarDate().get(EpochDays.UNIX),
+                86400 * 1000
+            );
+        long timeMillis = tsp.getInt(PlainTime.MILLI_OF_DAY);
+
+        if (zone != null) {
+            ZonalOffset offset = zone.getOffset(tsp, tsp);
+            timeMillis -= offset.getIntegralAmount() * 1000;
+        }
+
+        java.sql.Timestamp ret =
+            new java.sql.Timestamp(
+                MathUtils.safeAdd(dateMillis, timeMillis));
+        ret.setNanos(tsp.getInt(PlainTime.NANO_OF_SECOND));
+        return ret;
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class SqlDateRule
@@ -280,45 +701,14 @@ public abstract class JDBCAdapter<S, T>
         @Override
         public PlainDate translate(java.sql.Date source) {
 
-            long millis = source.getTime(); // UTC zone
-
-            if (!WITH_SQL_UTC_CONVERSION) {
-                Moment unixTime =
-                    Moment.of(
-                        MathUtils.floorDivide(millis, 1000),
-                        TimeScale.POSIX);
-                ZonalOffset offset = Timezone.ofSystem().getOffset(unixTime);
-                millis += offset.getIntegralAmount() * 1000;
-            }
-
-            return PlainDate.axis().getCalendarSystem().transform(
-                MathUtils.floorDivide(millis, 86400 * 1000) - 2 * 365
-            );
+            return toPlainDate(source, WITH_SQL_UTC_CONVERSION ? null : Timezone.ofSystem());
 
         }
 
         @Override
         public java.sql.Date from(PlainDate date) {
 
-            int year = date.getYear();
-
-            if ((year < 1900) || (year > 9999)) {
-                throw new ChronoException(
-                    "SQL-Date is only defined in year range of 1900-9999.");
-            }
-
-            long millis = // localMillis
-                MathUtils.safeMultiply(
-                    date.get(EpochDays.UNIX),
-                    86400 * 1000);
-
-            if (!WITH_SQL_UTC_CONVERSION) {
-                ZonalOffset offset =
-                    Timezone.ofSystem().getOffset(date, PlainTime.of(0));
-                millis -= offset.getIntegralAmount() * 1000;
-            }
-
-            return new java.sql.Date(millis);
+            return toSqlDate(date, WITH_SQL_UTC_CONVERSION ? null : Timezone.ofSystem());
 
         }
 
@@ -416,24 +806,7 @@ public abstract class JDBCAdapter<S, T>
         @Override
         public java.sql.Timestamp from(PlainTimestamp tsp) {
 
-            long dateMillis = // local millis
-                MathUtils.safeMultiply(
-                    tsp.getCalendarDate().get(EpochDays.UNIX),
-                    86400 * 1000
-                );
-            long timeMillis = tsp.getInt(PlainTime.MILLI_OF_DAY);
-
-            if (!WITH_SQL_UTC_CONVERSION) {
-                ZonalOffset offset =
-                    Timezone.ofSystem().getOffset(tsp, tsp);
-                timeMillis -= offset.getIntegralAmount() * 1000;
-            }
-
-            java.sql.Timestamp ret =
-                new java.sql.Timestamp(
-                    MathUtils.safeAdd(dateMillis, timeMillis));
-            ret.setNanos(tsp.getInt(PlainTime.NANO_OF_SECOND));
-            return ret;
+            return toSqlTimestamp(tsp, WITH_SQL_UTC_CONVERSION ? null : Timezone.ofSystem());
 
         }
 
@@ -0,0 +1,553 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (JDBCBatch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.sql;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSegments;
+import net.time4j.tz.Timezone;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>Bulk conversion of JDBC date and time columns for reading and writing many rows in one pass. </p>
+ *
+ * <p>The conversion rules are the same as in {@link JDBCAdapter} including the evaluation of the
+ * system property &quot;net.time4j.sql.utc.conversion&quot;. However, the system timezone is only
+ * resolved once when creating an instance, and the timezone offsets of read values are cached
+ * segment by segment. Therefore a new instance should be created for every batch. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  JDBCBatch batch = JDBCBatch.ofSystem();
+ *  List&lt;PlainTimestamp&gt; values = batch.readTimestamps(resultSet, 2);
+ *
+ *  PreparedStatement ps = connection.prepareStatement(&quot;INSERT INTO events (created) VALUES (?)&quot;);
+ *  batch.bindTimestamps(ps, 1, values);
+ *  ps.executeBatch();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Massenkonversion von JDBC-Datums- und Zeitspalten zum Lesen und Schreiben vieler Zeilen in
+ * einem Durchgang. </p>
+ *
+ * <p>Die Konversionsregeln sind die gleichen wie in {@link JDBCAdapter} einschlie&szlig;lich
+ * der Auswertung der System-Property &quot;net.time4j.sql.utc.conversion&quot;. Allerdings wird
+ * die Systemzeitzone nur einmal bei der Erzeugung einer Instanz bestimmt, und die Zeitzonen-Offsets
+ * gelesener Werte werden abschnittsweise zwischengespeichert. Deshalb sollte f&uuml;r jeden Stapel
+ * eine neue Instanz erzeugt werden. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  JDBCBatch batch = JDBCBatch.ofSystem();
+ *  List&lt;PlainTimestamp&gt; values = batch.readTimestamps(resultSet, 2);
+ *
+ *  PreparedStatement ps = connection.prepareStatement(&quot;INSERT INTO events (created) VALUES (?)&quot;);
+ *  batch.bindTimestamps(ps, 1, values);
+ *  ps.executeBatch();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {mutable}
+ */
+public final class JDBCBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MILLIS_PER_DAY = 86400 * 1000;
+    private static final long SEGMENT_WINDOW = 183 * 86400L; // half year in seconds
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone zone; // null in case of UTC conversion
+
+    private OffsetSegments segments = null;
+    private int hint = 0;
+    private PlainDate lastDate = null;
+    private long lastDays = 0;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    JDBCBatch(Timezone zone) {
+        super();
+
+        this.zone = zone;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new batch converter which resolves the system timezone once. </p>
+     *
+     * @return  new batch converter
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Stapelkonverter, der die Systemzeitzone einmal bestimmt. </p>
+     *
+     * @return  new batch converter
+     */
+    public static JDBCBatch ofSystem() {
+
+        return new JDBCBatch(JDBCAdapter.WITH_SQL_UTC_CONVERSION ? null : Timezone.ofSystem());
+
+    }
+
+    /**
+     * <p>Reads the given SQL-DATE column of all remaining rows of the result set. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of dates with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    /*[deutsch]
+     * <p>Liest die angegebene SQL-DATE-Spalte aller verbleibenden Zeilen der Ergebnismenge. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of dates with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    public List<PlainDate> readDates(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        List<PlainDate> result = new ArrayList<>();
+
+        while (rs.next()) {
+            java.sql.Date value = rs.getDate(column);
+            result.add((value == null) ? null : this.toDate(this.toLocalDays(value.getTime())));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Reads the given SQL-TIMESTAMP column of all remaining rows of the result set. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of timestamps with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    /*[deutsch]
+     * <p>Liest die angegebene SQL-TIMESTAMP-Spalte aller verbleibenden Zeilen der Ergebnismenge. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of timestamps with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    public List<PlainTimestamp> readTimestamps(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        List<PlainTimestamp> result = new ArrayList<>();
+
+        while (rs.next()) {
+            java.sql.Timestamp value = rs.getTimestamp(column);
+            result.add((value == null) ? null : this.toTimestamp(value));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Reads the given SQL-TIMESTAMP column of all remaining rows of the result set as UTC-moments. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of moments with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @throws  ChronoException if a value is out of range
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    /*[deutsch]
+     * <p>Liest die angegebene SQL-TIMESTAMP-Spalte aller verbleibenden Zeilen der Ergebnismenge als
+     * UTC-Momente. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @return  list of moments with {@code null}-elements for SQL-NULL
+     * @throws  SQLException if the column cannot be read
+     * @throws  ChronoException if a value is out of range
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    public List<Moment> readMoments(
+        ResultSet rs,
+        int column
+    ) throws SQLException {
+
+        List<Moment> result = new ArrayList<>();
+
+        while (rs.next()) {
+            java.sql.Timestamp value = rs.getTimestamp(column);
+
+            if (value == null) {
+                result.add(null);
+            } else {
+                try {
+                    result.add(
+                        Moment.of(MathUtils.floorDivide(value.getTime(), 1000), value.getNanos(), TimeScale.POSIX));
+                } catch (IllegalArgumentException iae) {
+                    throw new ChronoException(iae.getMessage(), iae);
+                }
+            }
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Reads the given SQL-DATE column of the next rows into an array of epoch days
+     * relative to UNIX epoch. </p>
+     *
+     * <p>At most {@code epochDays.length} rows will be read so that large tables can be processed
+     * in chunks. SQL-NULL is stored as {@code Long.MIN_VALUE}. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @param   epochDays   array to be filled with epoch days
+     * @return  count of rows read, {@code 0} if the result set is exhausted
+     * @throws  SQLException if the column cannot be read
+     * @see     EpochDays#UNIX
+     */
+    /*[deutsch]
+     * <p>Liest die angegebene SQL-DATE-Spalte der n&auml;chsten Zeilen in ein Feld von Epochentagen
+     * relativ zur UNIX-Epoche. </p>
+     *
+     * <p>H&ouml;chstens {@code epochDays.length} Zeilen werden gelesen, so da&szlig; gro&szlig;e
+     * Tabellen st&uuml;ckweise verarbeitet werden k&ouml;nnen. SQL-NULL wird als
+     * {@code Long.MIN_VALUE} gespeichert. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @param   epochDays   array to be filled with epoch days
+     * @return  count of rows read, {@code 0} if the result set is exhausted
+     * @throws  SQLException if the column cannot be read
+     * @see     EpochDays#UNIX
+     */
+    public int readEpochDays(
+        ResultSet rs,
+        int column,
+        long[] epochDays
+    ) throws SQLException {
+
+        int count = 0;
+
+        while ((count < epochDays.length) && rs.next()) {
+            java.sql.Date value = rs.getDate(column);
+            epochDays[count++] = ((value == null) ? Long.MIN_VALUE : this.toLocalDays(value.getTime()));
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Reads the given SQL-TIMESTAMP column of the next rows into arrays of POSIX seconds and
+     * nanoseconds (interpreted as UTC-moments). </p>
+     *
+     * <p>At most {@code posixTimes.length} rows will be read so that large tables can be processed
+     * in chunks. SQL-NULL is stored as {@code Long.MIN_VALUE}. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @param   posixTimes  array to be filled with elapsed seconds since UNIX epoch
+     * @param   nanos       array to be filled with the nanosecond fractions (at least as long as posixTimes)
+     * @return  count of rows read, {@code 0} if the result set is exhausted
+     * @throws  SQLException if the column cannot be read
+     * @throws  IllegalArgumentException if the nanosecond array is shorter than the posix array
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    /*[deutsch]
+     * <p>Liest die angegebene SQL-TIMESTAMP-Spalte der n&auml;chsten Zeilen in Felder von
+     * POSIX-Sekunden und Nanosekunden (als UTC-Momente interpretiert). </p>
+     *
+     * <p>H&ouml;chstens {@code posixTimes.length} Zeilen werden gelesen, so da&szlig; gro&szlig;e
+     * Tabellen st&uuml;ckweise verarbeitet werden k&ouml;nnen. SQL-NULL wird als
+     * {@code Long.MIN_VALUE} gespeichert. </p>
+     *
+     * @param   rs          result set positioned before the first row to be read
+     * @param   column      column index (1-based)
+     * @param   posixTimes  array to be filled with elapsed seconds since UNIX epoch
+     * @param   nanos       array to be filled with the nanosecond fractions (at least as long as posixTimes)
+     * @return  count of rows read, {@code 0} if the result set is exhausted
+     * @throws  SQLException if the column cannot be read
+     * @throws  IllegalArgumentException if the nanosecond array is shorter than the posix array
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    public int readPosixTimes(
+        ResultSet rs,
+        int column,
+        long[] posixTimes,
+        int[] nanos
+    ) throws SQLException {
+
+        if (nanos.length < posixTimes.length) {
+            throw new IllegalArgumentException("Nanosecond array is too short.");
+        }
+
+        int count = 0;
+
+        while ((count < posixTimes.length) && rs.next()) {
+            java.sql.Timestamp value = rs.getTimestamp(column);
+
+            if (value == null) {
+                posixTimes[count] = Long.MIN_VALUE;
+                nanos[count] = 0;
+            } else {
+                posixTimes[count] = MathUtils.floorDivide(value.getTime(), 1000);
+                nanos[count] = value.getNanos();
+            }
+
+            count++;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Binds every date to given parameter and adds it to the batch of the statement. </p>
+     *
+     * <p>All other parameters of the statement keep their current values. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   dates       values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @throws  ChronoException if a date is outside of the year range 1900-9999
+     * @see     JDBCAdapter#SQL_DATE
+     * @see     PreparedStatement#addBatch()
+     */
+    /*[deutsch]
+     * <p>Bindet jedes Datum an den angegebenen Parameter und f&uuml;gt es dem Stapel der Anweisung
+     * hinzu. </p>
+     *
+     * <p>Alle anderen Parameter der Anweisung behalten ihre aktuellen Werte. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   dates       values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @throws  ChronoException if a date is outside of the year range 1900-9999
+     * @see     JDBCAdapter#SQL_DATE
+     * @see     PreparedStatement#addBatch()
+     */
+    public void bindDates(
+        PreparedStatement ps,
+        int parameter,
+        Iterable<PlainDate> dates
+    ) throws SQLException {
+
+        for (PlainDate date : dates) {
+            if (date == null) {
+                ps.setNull(parameter, Types.DATE);
+            } else {
+                ps.setDate(parameter, JDBCAdapter.toSqlDate(date, this.zone));
+            }
+
+            ps.addBatch();
+        }
+
+    }
+
+    /**
+     * <p>Binds every timestamp to given parameter and adds it to the batch of the statement. </p>
+     *
+     * <p>All other parameters of the statement keep their current values. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   timestamps  values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     * @see     PreparedStatement#addBatch()
+     */
+    /*[deutsch]
+     * <p>Bindet jeden Zeitstempel an den angegebenen Parameter und f&uuml;gt ihn dem Stapel der
+     * Anweisung hinzu. </p>
+     *
+     * <p>Alle anderen Parameter der Anweisung behalten ihre aktuellen Werte. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   timestamps  values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     * @see     PreparedStatement#addBatch()
+     */
+    public void bindTimestamps(
+        PreparedStatement ps,
+        int parameter,
+        Iterable<PlainTimestamp> timestamps
+    ) throws SQLException {
+
+        for (PlainTimestamp tsp : timestamps) {
+            if (tsp == null) {
+                ps.setNull(parameter, Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(parameter, JDBCAdapter.toSqlTimestamp(tsp, this.zone));
+            }
+
+            ps.addBatch();
+        }
+
+    }
+
+    /**
+     * <p>Binds every moment to given parameter and adds it to the batch of the statement. </p>
+     *
+     * <p>All other parameters of the statement keep their current values. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   moments     values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     * @see     PreparedStatement#addBatch()
+     */
+    /*[deutsch]
+     * <p>Bindet jeden Moment an den angegebenen Parameter und f&uuml;gt ihn dem Stapel der
+     * Anweisung hinzu. </p>
+     *
+     * <p>Alle anderen Parameter der Anweisung behalten ihre aktuellen Werte. </p>
+     *
+     * @param   ps          prepared statement
+     * @param   parameter   parameter index (1-based)
+     * @param   moments     values to be bound ({@code null} as SQL-NULL)
+     * @throws  SQLException if the statement rejects a value
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     * @see     PreparedStatement#addBatch()
+     */
+    public void bindMoments(
+        PreparedStatement ps,
+        int parameter,
+        Iterable<Moment> moments
+    ) throws SQLException {
+
+        for (Moment moment : moments) {
+            if (moment == null) {
+                ps.setNull(parameter, Types.TIMESTAMP);
+            } else {
+                java.sql.Timestamp sql =
+                    new java.sql.Timestamp(MathUtils.safeMultiply(moment.getPosixTime(), 1000));
+                sql.setNanos(moment.getNanosecond());
+                ps.setTimestamp(parameter, sql);
+            }
+
+            ps.addBatch();
+        }
+
+    }
+
+    // lokale Epochentage eines SQL-DATE
+    private long toLocalDays(long millis) {
+
+        millis += this.getOffset(MathUtils.floorDivide(millis, 1000)) * 1000L;
+        return MathUtils.floorDivide(millis, MILLIS_PER_DAY);
+
+    }
+
+    // aufeinanderfolgende Zeilen haben oft das gleiche Datum
+    private PlainDate toDate(long epochDays) {
+
+        if ((this.lastDate == null) || (this.lastDays != epochDays)) {
+            this.lastDate = PlainDate.of(epochDays, EpochDays.UNIX);
+            this.lastDays = epochDays;
+        }
+
+        return this.lastDate;
+
+    }
+
+    private PlainTimestamp toTimestamp(java.sql.Timestamp source) {
+
+        long millis = source.getTime(); // UTC zone
+        millis += this.getOffset(MathUtils.floorDivide(millis, 1000)) * 1000L;
+
+        PlainDate date = this.toDate(MathUtils.floorDivide(millis, MILLIS_PER_DAY));
+        int secondOfDay = MathUtils.floorModulo(millis, MILLIS_PER_DAY) / 1000;
+        PlainTime time = PlainTime.of(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60, source.getNanos());
+        return PlainTimestamp.of(date, time);
+
+    }
+
+    // Offset in Sekunden, Segmente werden halbjahresweise um den gesuchten Zeitpunkt herum geladen
+    private int getOffset(long posixTime) {
+
+        if (this.zone == null) {
+            return 0;
+        }
+
+        OffsetSegments s = this.segments;
+
+        if (s != null) {
+            int index = s.findSegment(posixTime, this.hint);
+
+            if (index >= 0) {
+                this.hint = index;
+                return s.getTotalOffset(index);
+            }
+        }
+
+        s =
+            this.zone.getOffsetSegments(
+                Moment.of(posixTime - SEGMENT_WINDOW, TimeScale.POSIX),
+                Moment.of(posixTime + SEGMENT_WINDOW, TimeScale.POSIX));
+        this.segments = s;
+        this.hint = s.findSegment(posixTime, 0);
+        return s.getTotalOffset(this.hint);
+
+    }
+
+}
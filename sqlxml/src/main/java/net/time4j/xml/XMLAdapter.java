@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (XMLAdapter.java) is part of project Time4J.
  *
@@ -21,6 +21,7 @@
 
 package net.time4j.xml;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
@@ -259,6 +260,435 @@ public abstract class XMLAdapter<S, T>
 
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Parses the lexical form of {@code xsd:date} directly to a calendar date. </p>
+     *
+     * <p>An optional timezone offset will be validated but ignored, in the same way as
+     * {@link #XML_DATE} ignores it. Years may have more than four digits and a minus sign.
+     * No instance of {@code XMLGregorianCalendar} will be created. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28&quot; or &quot;2014-02-28+01:00&quot;
+     * @return  PlainDate
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xsd:date} direkt als Kalenderdatum. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird zwar gepr&uuml;ft, aber ignoriert, genauso wie
+     * {@link #XML_DATE} ihn ignoriert. Jahre d&uuml;rfen mehr als vier Ziffern und ein
+     * Minuszeichen haben. Es wird keine Instanz von {@code XMLGregorianCalendar} erzeugt. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28&quot; or &quot;2014-02-28+01:00&quot;
+     * @return  PlainDate
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    public static PlainDate parseDate(CharSequence text) throws ParseException {
+
+        XmlLexer lexer = new XmlLexer(text);
+        lexer.date();
+        lexer.timezone();
+        lexer.end();
+        return lexer.toDate();
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xsd:time} directly to a wall time. </p>
+     *
+     * <p>An optional timezone offset will be validated but ignored. The special value
+     * &quot;24:00:00&quot; yields midnight at end of day. Fractional digits beyond
+     * nanosecond precision will be truncated. </p>
+     *
+     * @param   text    lexical form like &quot;21:45:30.123&quot;
+     * @return  PlainTime
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xsd:time} direkt als Uhrzeit. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird zwar gepr&uuml;ft, aber ignoriert. Der
+     * Spezialwert &quot;24:00:00&quot; ergibt Mitternacht am Ende des Tages. Nachkommastellen
+     * jenseits der Nanosekundengenauigkeit werden abgeschnitten. </p>
+     *
+     * @param   text    lexical form like &quot;21:45:30.123&quot;
+     * @return  PlainTime
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    public static PlainTime parseTime(CharSequence text) throws ParseException {
+
+        XmlLexer lexer = new XmlLexer(text);
+        lexer.time();
+        lexer.timezone();
+        lexer.end();
+        return lexer.toTime();
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xsd:dateTime} directly to a local timestamp. </p>
+     *
+     * <p>An optional timezone offset will be validated but ignored, in the same way as
+     * {@link #XML_DATE_TIME} ignores it. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28T14:45:30&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xsd:dateTime} direkt als lokalen
+     * Zeitstempel. </p>
+     *
+     * <p>Ein optionaler Zeitzonen-Offset wird zwar gepr&uuml;ft, aber ignoriert, genauso wie
+     * {@link #XML_DATE_TIME} ihn ignoriert. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28T14:45:30&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if the text does not match the lexical form or contains invalid values
+     * @since   5.6
+     */
+    public static PlainTimestamp parseDateTime(CharSequence text) throws ParseException {
+
+        XmlLexer lexer = new XmlLexer(text);
+        lexer.date();
+        lexer.expect('T');
+        lexer.time();
+        lexer.timezone();
+        lexer.end();
+        return lexer.toTimestamp();
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xsd:dateTime} inclusive timezone offset
+     * directly to a global timestamp. </p>
+     *
+     * <p>Leap seconds are supported if they are registered. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28T14:45:30+01:00&quot;
+     * @return  ZonalDateTime
+     * @throws  ParseException if the text does not match the lexical form, contains invalid values
+     *          or has no timezone offset
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xsd:dateTime} inklusive
+     * Zeitzonen-Offset direkt als globalen Zeitstempel. </p>
+     *
+     * <p>Schaltsekunden werden unterst&uuml;tzt, wenn sie registriert sind. </p>
+     *
+     * @param   text    lexical form like &quot;2014-02-28T14:45:30+01:00&quot;
+     * @return  ZonalDateTime
+     * @throws  ParseException if the text does not match the lexical form, contains invalid values
+     *          or has no timezone offset
+     * @since   5.6
+     */
+    public static ZonalDateTime parseDateTimeOffset(CharSequence text) throws ParseException {
+
+        XmlLexer lexer = new XmlLexer(text);
+        lexer.date();
+        lexer.expect('T');
+        lexer.time();
+
+        if (!lexer.timezone()) {
+            throw lexer.error("Missing timezone offset");
+        }
+
+        lexer.end();
+        return lexer.toZonalDateTime();
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xsd:duration} directly to a duration. </p>
+     *
+     * <p>Fractional digits of seconds beyond nanosecond precision will be truncated. </p>
+     *
+     * @param   text    lexical form like &quot;-P1Y1M10DT3H5.123456789S&quot;
+     * @return  Duration
+     * @throws  ParseException if the text does not match the lexical form
+     * @throws  ArithmeticException if any amount does not fit into an int
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xsd:duration} direkt als Dauer. </p>
+     *
+     * <p>Sekundenbruchteile jenseits der Nanosekundengenauigkeit werden abgeschnitten. </p>
+     *
+     * @param   text    lexical form like &quot;-P1Y1M10DT3H5.123456789S&quot;
+     * @return  Duration
+     * @throws  ParseException if the text does not match the lexical form
+     * @throws  ArithmeticException if any amount does not fit into an int
+     * @since   5.6
+     */
+    public static Duration<IsoUnit> parseDuration(CharSequence text) throws ParseException {
+
+        XmlLexer lexer = new XmlLexer(text);
+        return lexer.duration();
+
+    }
+
+    /**
+     * <p>Prints given calendar date in the canonical lexical form of {@code xsd:date}. </p>
+     *
+     * @param   date    calendar date to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Kalenderdatum in der kanonischen lexikalischen Form
+     * von {@code xsd:date}. </p>
+     *
+     * @param   date    calendar date to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    public static void printDate(
+        PlainDate date,
+        Appendable buffer
+    ) throws IOException {
+
+        printDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given wall time in the canonical lexical form of {@code xsd:time}. </p>
+     *
+     * <p>Trailing zeros of the fraction part are suppressed. Midnight at end of day will
+     * be printed as &quot;24:00:00&quot;. </p>
+     *
+     * @param   time    wall time to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Uhrzeit in der kanonischen lexikalischen Form
+     * von {@code xsd:time}. </p>
+     *
+     * <p>Nachlaufende Nullen im Sekundenbruchteil werden unterdr&uuml;ckt. Mitternacht
+     * am Ende des Tages wird als &quot;24:00:00&quot; geschrieben. </p>
+     *
+     * @param   time    wall time to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    public static void printTime(
+        PlainTime time,
+        Appendable buffer
+    ) throws IOException {
+
+        printTime(time.getHour(), time.getMinute(), time.getSecond(), time.getNanosecond(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given local timestamp in the canonical lexical form of {@code xsd:dateTime}
+     * without timezone offset. </p>
+     *
+     * @param   tsp     local timestamp to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen lokalen Zeitstempel in der kanonischen lexikalischen Form
+     * von {@code xsd:dateTime} ohne Zeitzonen-Offset. </p>
+     *
+     * @param   tsp     local timestamp to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    public static void printDateTime(
+        PlainTimestamp tsp,
+        Appendable buffer
+    ) throws IOException {
+
+        printDate(tsp.getYear(), tsp.getMonth(), tsp.getDayOfMonth(), buffer);
+        buffer.append('T');
+        printTime(tsp.getHour(), tsp.getMinute(), tsp.getSecond(), tsp.getNanosecond(), buffer);
+
+    }
+
+    /**
+     * <p>Prints given global timestamp in the lexical form of {@code xsd:dateTime}
+     * inclusive timezone offset. </p>
+     *
+     * <p>A leap second will be printed with the second &quot;60&quot;. </p>
+     *
+     * @param   zdt     global timestamp to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IllegalArgumentException if the offset has a second part or is beyond +/-14:00
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen globalen Zeitstempel in der lexikalischen Form
+     * von {@code xsd:dateTime} inklusive Zeitzonen-Offset. </p>
+     *
+     * <p>Eine Schaltsekunde wird mit der Sekunde &quot;60&quot; geschrieben. </p>
+     *
+     * @param   zdt     global timestamp to be printed
+     * @param   buffer  target to append the text to
+     * @throws  IllegalArgumentException if the offset has a second part or is beyond +/-14:00
+     * @throws  IOException if writing to buffer fails
+     * @since   5.6
+     */
+    public static void printDateTimeOffset(
+        ZonalDateTime zdt,
+        Appendable buffer
+    ) throws IOException {
+
+        ZonalOffset offset = zdt.getOffset();
+        int total = offset.getIntegralAmount();
+
+        if ((offset.getFractionalAmount() != 0) || (total % 60 != 0) || (Math.abs(total) > 14 * 3600)) {
+            throw new IllegalArgumentException("Offset not representable in XML: " + offset);
+        }
+
+        PlainTimestamp tsp = zdt.toTimestamp();
+        printDate(tsp.getYear(), tsp.getMonth(), tsp.getDayOfMonth(), buffer);
+        buffer.append('T');
+        int second = zdt.get(PlainTime.SECOND_OF_MINUTE); // LS
+        printTime(tsp.getHour(), tsp.getMinute(), second, tsp.getNanosecond(), buffer);
+
+        if (total == 0) {
+            buffer.append('Z');
+        } else {
+            buffer.append((total < 0) ? '-' : '+');
+            int mins = Math.abs(total) / 60;
+            printTwoDigits(mins / 60, buffer);
+            buffer.append(':');
+            printTwoDigits(mins % 60, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Prints given duration in the lexical form of {@code xsd:duration}. </p>
+     *
+     * @param   duration    duration to be printed
+     * @param   buffer      target to append the text to
+     * @throws  ChronoException if the duration contains units which cannot be printed
+     * @throws  IOException if writing to buffer fails
+     * @see     Duration#toStringXML()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene Dauer in der lexikalischen Form von {@code xsd:duration}. </p>
+     *
+     * @param   duration    duration to be printed
+     * @param   buffer      target to append the text to
+     * @throws  ChronoException if the duration contains units which cannot be printed
+     * @throws  IOException if writing to buffer fails
+     * @see     Duration#toStringXML()
+     * @since   5.6
+     */
+    public static void printDuration(
+        Duration<IsoUnit> duration,
+        Appendable buffer
+    ) throws IOException {
+
+        buffer.append(duration.toStringXML());
+
+    }
+
+    private static void printDate(
+        int year,
+        int month,
+        int dom,
+        Appendable buffer
+    ) throws IOException {
+
+        if (year < 0) {
+            buffer.append('-');
+            year = -year;
+        }
+
+        for (int scale = 1000; (scale > 1) && (year < scale); scale /= 10) {
+            buffer.append('0');
+        }
+
+        buffer.append(Integer.toString(year));
+        buffer.append('-');
+        printTwoDigits(month, buffer);
+        buffer.append('-');
+        printTwoDigits(dom, buffer);
+
+    }
+
+    private static void printTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        Appendable buffer
+    ) throws IOException {
+
+        printTwoDigits(hour, buffer);
+        buffer.append(':');
+        printTwoDigits(minute, buffer);
+        buffer.append(':');
+        printTwoDigits(second, buffer);
+
+        if (nano != 0) {
+            buffer.append('.');
+            int digits = 9;
+            while ((nano % 10) == 0) {
+                nano /= 10;
+                digits--;
+            }
+            String fraction = Integer.toString(nano);
+            for (int i = fraction.length(); i < digits; i++) {
+                buffer.append('0');
+            }
+            buffer.append(fraction);
+        }
+
+    }
+
+    private static void printTwoDigits(
+        int value,
+        Appendable buffer
+    ) throws IOException {
+
+        buffer.append((char) ('0' + value / 10));
+        buffer.append((char) ('0' + value % 10));
+
+    }
+
+    private static ZonalDateTime toZonal(
+        PlainTimestamp tsp,
+        ZonalOffset offset,
+        boolean leapsecond,
+        Object source
+    ) {
+
+        Moment moment = tsp.at(offset);
+
+        if (leapsecond && LeapSeconds.getInstance().isEnabled()) {
+            Moment ls = moment.plus(1, SI.SECONDS);
+            if (ls.isLeapSecond()) {
+                return ls.inZonalView(offset);
+            } else {
+                throw new ChronoException(
+                    "Leap second not registered: " + source);
+            }
+        } else {
+            return moment.inZonalView(offset);
+        }
+
+    }
+
     private static DatatypeFactory getXMLFactory() {
 
         try {
@@ -541,22 +971,7 @@ public abstract class XMLAdapter<S, T>
             }
 
             ZonalOffset offset = ZonalOffset.ofTotalSeconds(offsetMins * 60);
-            Moment moment = tsp.at(offset);
-
-            if (
-                (source.getSecond() == 60)
-                && LeapSeconds.getInstance().isEnabled()
-            ) {
-                Moment ls = moment.plus(1, SI.SECONDS);
-                if (ls.isLeapSecond()) {
-                    return ls.inZonalView(offset);
-                } else {
-                    throw new ChronoException(
-                        "Leap second not registered: " + source);
-                }
-            } else {
-                return moment.inZonalView(offset);
-            }
+            return toZonal(tsp, offset, source.getSecond() == 60, source);
 
         }
 
@@ -632,4 +1047,336 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    private static class XmlLexer {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharSequence text;
+        private int pos = 0;
+
+        private int year;
+        private int month;
+        private int dom;
+        private int hour;
+        private int minute;
+        private int second;
+        private int nano;
+        private int offsetSeconds;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        XmlLexer(CharSequence text) {
+            super();
+
+            this.text = text;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        void date() throws ParseException {
+
+            boolean negative = this.accept('-');
+            int start = this.pos;
+
+            while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                this.pos++;
+            }
+
+            int count = this.pos - start;
+
+            if (count < 4) {
+                throw this.error("Year must have at least four digits");
+            } else if ((count > 4) && (this.text.charAt(start) == '0')) {
+                throw this.error("Year with more than four digits must not start with zero");
+            } else if (count > 9) {
+                throw this.error("Year out of supported range");
+            }
+
+            int y = 0;
+
+            for (int i = start; i < this.pos; i++) {
+                y = y * 10 + (this.text.charAt(i) - '0');
+            }
+
+            this.year = (negative ? -y : y);
+            this.expect('-');
+            this.month = this.twoDigits();
+            this.expect('-');
+            this.dom = this.twoDigits();
+
+        }
+
+        void time() throws ParseException {
+
+            this.hour = this.twoDigits();
+            this.expect(':');
+            this.minute = this.twoDigits();
+            this.expect(':');
+            this.second = this.twoDigits();
+
+            if (this.accept('.')) {
+                this.nano = this.fraction();
+            }
+
+        }
+
+        boolean timezone() throws ParseException {
+
+            if (this.accept('Z')) {
+                return true;
+            }
+
+            int sign;
+
+            if (this.accept('+')) {
+                sign = 1;
+            } else if (this.accept('-')) {
+                sign = -1;
+            } else {
+                return false;
+            }
+
+            int h = this.twoDigits();
+            this.expect(':');
+            int m = this.twoDigits();
+
+            if ((m > 59) || (h > 14) || ((h == 14) && (m > 0))) {
+                throw this.error("Timezone offset out of range");
+            }
+
+            this.offsetSeconds = sign * (h * 3600 + m * 60);
+            return true;
+
+        }
+
+        Duration<IsoUnit> duration() throws ParseException {
+
+            Duration.Builder builder = (this.accept('-') ? Duration.ofNegative() : Duration.ofPositive());
+            this.expect('P');
+            String designators = "YMDTHMS";
+            int index = 0;
+            boolean timePart = false;
+            boolean empty = true;
+            boolean zero = true;
+
+            while (this.pos < this.text.length()) {
+                if (!timePart && this.accept('T')) {
+                    timePart = true;
+                    index = 4;
+                    if (this.pos == this.text.length()) {
+                        throw this.error("Missing time components");
+                    }
+                    continue;
+                }
+
+                int start = this.pos;
+                long amount = 0;
+
+                while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                    amount = amount * 10 + (this.text.charAt(this.pos) - '0');
+                    if (amount > Integer.MAX_VALUE) {
+                        throw new ArithmeticException("Amount out of range: " + this.text);
+                    }
+                    this.pos++;
+                }
+
+                if (this.pos == start) {
+                    throw this.error("Digit expected");
+                }
+
+                int fraction = -1;
+
+                if (timePart && this.accept('.')) {
+                    fraction = this.fraction();
+                }
+
+                int d = -1;
+
+                if (this.pos < this.text.length()) {
+                    d = designators.indexOf(this.text.charAt(this.pos), index);
+                }
+
+                if ((d == -1) || (d == 3) || (timePart != (d > 3)) || ((fraction != -1) && (d != 6))) {
+                    throw this.error("Unexpected designator");
+                }
+
+                this.pos++;
+                index = d + 1;
+                empty = false;
+                zero = zero && (amount == 0) && (fraction <= 0);
+                int num = (int) amount;
+
+                switch (d) {
+                    case 0:
+                        builder.years(num);
+                        break;
+                    case 1:
+                        builder.months(num);
+                        break;
+                    case 2:
+                        builder.days(num);
+                        break;
+                    case 4:
+                        builder.hours(num);
+                        break;
+                    case 5:
+                        builder.minutes(num);
+                        break;
+                    default:
+                        builder.seconds(num);
+                        if (fraction > 0) {
+                            builder.nanos(fraction);
+                        }
+                }
+            }
+
+            if (empty) {
+                throw this.error("Missing duration components");
+            }
+
+            return (zero ? Duration.ofZero() : builder.build());
+
+        }
+
+        void expect(char c) throws ParseException {
+
+            if (!this.accept(c)) {
+                throw this.error("Expected: " + c);
+            }
+
+        }
+
+        void end() throws ParseException {
+
+            if (this.pos < this.text.length()) {
+                throw this.error("Unparsed trailing characters");
+            }
+
+        }
+
+        ParseException error(String message) {
+
+            return new ParseException(message + ": " + this.text, this.pos);
+
+        }
+
+        PlainDate toDate() throws ParseException {
+
+            try {
+                return PlainDate.of(this.year, this.month, this.dom);
+            } catch (IllegalArgumentException iae) {
+                throw this.invalid(iae);
+            }
+
+        }
+
+        PlainTime toTime() throws ParseException {
+
+            try {
+                if (this.hour == 24) {
+                    if ((this.minute != 0) || (this.second != 0) || (this.nano != 0)) {
+                        throw new IllegalArgumentException("Hour 24 only allowed at midnight.");
+                    }
+                    return PlainTime.midnightAtEndOfDay();
+                }
+                return PlainTime.of(this.hour, this.minute, this.second, this.nano);
+            } catch (IllegalArgumentException iae) {
+                throw this.invalid(iae);
+            }
+
+        }
+
+        PlainTimestamp toTimestamp() throws ParseException {
+
+            return PlainTimestamp.of(this.toDate(), this.toTime());
+
+        }
+
+        ZonalDateTime toZonalDateTime() throws ParseException {
+
+            boolean leapsecond = (this.second == 60);
+
+            if (leapsecond) {
+                this.second = 59;
+            }
+
+            PlainTimestamp tsp = this.toTimestamp();
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(this.offsetSeconds);
+
+            try {
+                return toZonal(tsp, offset, leapsecond, this.text);
+            } catch (ChronoException ex) {
+                throw this.invalid(ex);
+            }
+
+        }
+
+        private int fraction() throws ParseException {
+
+            int start = this.pos;
+            int f = 0;
+
+            while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                if (this.pos - start < 9) {
+                    f = f * 10 + (this.text.charAt(this.pos) - '0');
+                }
+                this.pos++;
+            }
+
+            if (this.pos == start) {
+                throw this.error("Missing fraction digits");
+            }
+
+            for (int i = this.pos - start; i < 9; i++) {
+                f *= 10;
+            }
+
+            return f;
+
+        }
+
+        private ParseException invalid(RuntimeException cause) {
+
+            ParseException pe = new ParseException("Invalid value: " + this.text, 0);
+            pe.initCause(cause);
+            return pe;
+
+        }
+
+        private int twoDigits() throws ParseException {
+
+            if (
+                (this.pos + 2 > this.text.length())
+                || !isDigit(this.text.charAt(this.pos))
+                || !isDigit(this.text.charAt(this.pos + 1))
+            ) {
+                throw this.error("Two digits expected");
+            }
+
+            int value = (this.text.charAt(this.pos) - '0') * 10 + (this.text.charAt(this.pos + 1) - '0');
+            this.pos += 2;
+            return value;
+
+        }
+
+        private boolean accept(char c) {
+
+            if ((this.pos < this.text.length()) && (this.text.charAt(this.pos) == c)) {
+                this.pos++;
+                return true;
+            }
+
+            return false;
+
+        }
+
+        private static boolean isDigit(char c) {
+
+            return (c >= '0') && (c <= '9');
+
+        }
+
+    }
+
 }
@@ -1,15 +1,30 @@
 package net.time4j.sql;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.engine.EpochDays;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -95,4 +110,219 @@ public class JDBCAdapterTest {
             is(ts));
     }
 
+    @Test
+    public void batchReadAndBind() throws Exception {
+        java.sql.Timestamp ts1 = new java.sql.Timestamp(1341100800L * 1000);
+        ts1.setNanos(210);
+        java.sql.Timestamp ts2 = new java.sql.Timestamp(1341100800L * 1000 + 86399999);
+        List<java.sql.Timestamp> column = Arrays.asList(ts1, null, ts2);
+
+        List<PlainTimestamp> timestamps = JDBCBatch.ofSystem().readTimestamps(resultSet(column), 1);
+        assertThat(
+            timestamps,
+            is(Arrays.asList(
+                JDBCAdapter.SQL_TIMESTAMP.translate(ts1), null, JDBCAdapter.SQL_TIMESTAMP.translate(ts2))));
+        assertThat(
+            JDBCBatch.ofSystem().readMoments(resultSet(column), 1),
+            is(Arrays.asList(Moment.of(1341100800L, 210, TimeScale.POSIX), null, Moment.of(1341187199L, 999000000, TimeScale.POSIX))));
+
+        long[] posix = new long[2];
+        int[] nanos = new int[2];
+        ResultSet rs = resultSet(column);
+        JDBCBatch batch = JDBCBatch.ofSystem();
+        assertThat(batch.readPosixTimes(rs, 1, posix, nanos), is(2));
+        assertThat(posix[0], is(1341100800L));
+        assertThat(nanos[0], is(210));
+        assertThat(posix[1], is(Long.MIN_VALUE));
+        assertThat(batch.readPosixTimes(rs, 1, posix, nanos), is(1));
+        assertThat(posix[0], is(1341187199L));
+        assertThat(batch.readPosixTimes(rs, 1, posix, nanos), is(0));
+
+        List<Object> bound = new ArrayList<>();
+        JDBCBatch.ofSystem().bindTimestamps(statement(bound), 1, timestamps);
+        assertThat(bound, is(Arrays.<Object>asList(ts1, "batch", null, "batch", ts2, "batch")));
+    }
+
+    @Test
+    public void batchWithTimezone() throws Exception {
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        List<java.sql.Timestamp> column = new ArrayList<>();
+        List<PlainTimestamp> expected = new ArrayList<>();
+
+        for (long t = 1300000000L; t < 1300000000L + 400 * 86400L; t += 7919) {
+            column.add(new java.sql.Timestamp(t * 1000));
+            expected.add(Moment.of(t, TimeScale.POSIX).toZonalTimestamp(berlin.getID()));
+        }
+
+        JDBCBatch batch = new JDBCBatch(berlin);
+        List<PlainTimestamp> timestamps = batch.readTimestamps(resultSet(column), 1);
+        assertThat(timestamps, is(expected));
+
+        List<Object> bound = new ArrayList<>();
+        batch.bindTimestamps(statement(bound), 1, Arrays.asList(PlainTimestamp.of(2012, 7, 1, 2, 0)));
+        assertThat(bound, is(Arrays.<Object>asList(new java.sql.Timestamp(1341100800L * 1000), "batch")));
+    }
+
+    @Test
+    public void batchDates() throws Exception {
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        List<PlainDate> dates = new ArrayList<>();
+        List<java.sql.Date> utcColumn = new ArrayList<>();
+        List<java.sql.Date> berlinColumn = new ArrayList<>();
+
+        for (PlainDate d : Arrays.asList(PlainDate.of(2019, 3, 29), PlainDate.of(2019, 10, 25))) {
+            for (int i = 0; i < 5; i++) { // around the DST transitions
+                PlainDate date = d.plus(i, CalendarUnit.DAYS);
+                dates.add(date);
+                utcColumn.add(JDBCAdapter.SQL_DATE.from(date));
+                berlinColumn.add(JDBCAdapter.toSqlDate(date, berlin));
+            }
+        }
+
+        dates.add(null);
+        utcColumn.add(null);
+        berlinColumn.add(null);
+        berlinColumn.add(new java.sql.Date(1553986800000L - 1)); // 2019-03-30T23:59:59,999 in Berlin
+        berlinColumn.add(new java.sql.Date(1553986800000L)); // 2019-03-31T00:00 in Berlin
+
+        // UTC conversion is active in this test, so the batch must agree with SQL_DATE
+        List<PlainDate> expected = new ArrayList<>();
+        for (java.sql.Date value : utcColumn) {
+            expected.add((value == null) ? null : JDBCAdapter.SQL_DATE.translate(value));
+        }
+        assertThat(expected.subList(0, dates.size()), is(dates));
+        assertThat(new JDBCBatch(null).readDates(resultSet(utcColumn), 1), is(expected));
+
+        expected.clear();
+        for (java.sql.Date value : berlinColumn) {
+            expected.add((value == null) ? null : JDBCAdapter.toPlainDate(value, berlin));
+        }
+        assertThat(expected.subList(0, dates.size()), is(dates));
+        assertThat(expected.get(expected.size() - 2), is(PlainDate.of(2019, 3, 30)));
+        assertThat(expected.get(expected.size() - 1), is(PlainDate.of(2019, 3, 31)));
+        JDBCBatch batch = new JDBCBatch(berlin);
+        assertThat(batch.readDates(resultSet(berlinColumn), 1), is(expected));
+
+        long[] epochDays = new long[berlinColumn.size() + 1];
+        assertThat(batch.readEpochDays(resultSet(berlinColumn), 1, epochDays), is(berlinColumn.size()));
+        for (int i = 0; i < berlinColumn.size(); i++) {
+            PlainDate date = expected.get(i);
+            assertThat(epochDays[i], is((date == null) ? Long.MIN_VALUE : date.get(EpochDays.UNIX)));
+        }
+
+        List<Object> bound = new ArrayList<>();
+        batch.bindDates(statement(bound), 1, dates);
+        List<Object> expectedBound = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            expectedBound.add(berlinColumn.get(i));
+            expectedBound.add("batch");
+        }
+        assertThat(bound, is(expectedBound));
+        assertThat(bound.get(bound.size() - 2) == null, is(true)); // setNull
+
+        bound.clear();
+        new JDBCBatch(null).bindDates(statement(bound), 1, dates.subList(0, 1));
+        assertThat(bound, is(Arrays.<Object>asList(JDBCAdapter.SQL_DATE.from(dates.get(0)), "batch")));
+    }
+
+    @Test
+    public void batchBindMoments() throws Exception {
+        java.sql.Timestamp ts = new java.sql.Timestamp(1341100800L * 1000);
+        ts.setNanos(123456789);
+        java.sql.Timestamp before = new java.sql.Timestamp(-1000L);
+        List<Moment> moments =
+            Arrays.asList(Moment.of(1341100800L, 123456789, TimeScale.POSIX), null, Moment.of(-1, TimeScale.POSIX));
+        List<Object> bound = new ArrayList<>();
+        new JDBCBatch(Timezone.of("Europe/Berlin")).bindMoments(statement(bound), 1, moments);
+        assertThat(bound, is(Arrays.<Object>asList(ts, "batch", null, "batch", before, "batch")));
+        assertThat(JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.from(moments.get(0)), is(ts));
+    }
+
+    @Test
+    public void jdbc42ReadAndWrite() throws Exception {
+        List<Object> row =
+            Arrays.asList(
+                LocalDate.of(2012, 6, 30),
+                LocalTime.of(23, 59, 59, 123),
+                LocalDateTime.of(2012, 6, 30, 23, 59, 59, 123),
+                OffsetDateTime.of(2012, 7, 1, 2, 0, 0, 123, ZoneOffset.ofHours(2)),
+                null);
+        ResultSet rs = objectResultSet(row);
+        assertThat(JDBCAdapter.readDate(rs, 1), is(PlainDate.of(2012, 6, 30)));
+        assertThat(JDBCAdapter.readTime(rs, 2), is(PlainTime.of(23, 59, 59, 123)));
+        assertThat(JDBCAdapter.readTimestamp(rs, 3), is(PlainTimestamp.of(2012, 6, 30, 23, 59, 59).plus(123, ClockUnit.NANOS)));
+        assertThat(JDBCAdapter.readMoment(rs, 4), is(Moment.of(1341100800L, 123, TimeScale.POSIX)));
+        assertThat(JDBCAdapter.readTimestamp(rs, 5) == null, is(true));
+
+        List<Object> bound = new ArrayList<>();
+        PreparedStatement ps = statement(bound);
+        JDBCAdapter.writeDate(ps, 1, PlainDate.of(2012, 6, 30));
+        JDBCAdapter.writeTime(ps, 2, PlainTime.of(23, 59, 59, 123));
+        JDBCAdapter.writeTimestamp(ps, 3, PlainTimestamp.of(2012, 6, 30, 23, 59, 59).plus(123, ClockUnit.NANOS));
+        JDBCAdapter.writeMoment(ps, 4, Moment.of(1341100800L, 123, TimeScale.POSIX));
+        JDBCAdapter.writeMoment(ps, 5, null);
+        assertThat(
+            bound,
+            is(Arrays.asList(
+                row.get(0),
+                row.get(1),
+                row.get(2),
+                OffsetDateTime.of(2012, 7, 1, 0, 0, 0, 123, ZoneOffset.UTC),
+                null)));
+    }
+
+    private static ResultSet objectResultSet(List<Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getObject") && (args.length == 2)) {
+                    Object value = row.get((Integer) args[0] - 1);
+                    return ((Class<?>) args[1]).cast(value);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static ResultSet resultSet(List<? extends java.util.Date> column) {
+        int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        return (++row[0] < column.size());
+                    case "getDate":
+                    case "getTimestamp":
+                        return column.get(row[0]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static PreparedStatement statement(List<Object> bound) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setDate":
+                    case "setTimestamp":
+                    case "setObject":
+                        bound.add(args[1]);
+                        return null;
+                    case "setNull":
+                        bound.add(null);
+                        return null;
+                    case "addBatch":
+                        bound.add("batch");
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
 }
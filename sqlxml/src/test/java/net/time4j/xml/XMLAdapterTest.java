@@ -2,14 +2,18 @@ package net.time4j.xml;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.ParseException;
 import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
 import net.time4j.format.expert.Iso8601Format;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -133,4 +137,89 @@ public class XMLAdapterTest {
                     new BigDecimal("5.123456789"))));
     }
 
+    @Test
+    public void lexicalDateAndTime() throws Exception {
+        assertThat(XMLAdapter.parseDate("2014-02-28+01:00"), is(PlainDate.of(2014, 2, 28)));
+        assertThat(XMLAdapter.parseDate("-12345-01-31"), is(PlainDate.of(-12345, 1, 31)));
+        assertThat(XMLAdapter.parseTime("23:59:36.1234567891Z"), is(PlainTime.of(23, 59, 36, 123456789)));
+        assertThat(XMLAdapter.parseTime("24:00:00"), is(PlainTime.midnightAtEndOfDay()));
+        assertThat(
+            XMLAdapter.parseDateTime("2014-02-28T14:45:30.5-05:00"),
+            is(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).with(PlainTime.NANO_OF_SECOND, 500000000)));
+
+        StringBuilder sb = new StringBuilder();
+        XMLAdapter.printDate(PlainDate.of(-12, 1, 31), sb);
+        sb.append(' ');
+        XMLAdapter.printTime(PlainTime.midnightAtEndOfDay(), sb);
+        sb.append(' ');
+        XMLAdapter.printDateTime(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).with(PlainTime.NANO_OF_SECOND, 120000), sb);
+        assertThat(sb.toString(), is("-0012-01-31 24:00:00 2014-02-28T14:45:30.00012"));
+
+        String xml = "2014-02-28T14:45:30.123456789-05:30";
+        assertThat(
+            XMLAdapter.parseDateTime(xml),
+            is(XMLAdapter.XML_DATE_TIME.translate(DatatypeFactory.newInstance().newXMLGregorianCalendar(xml))));
+    }
+
+    @Test
+    public void lexicalDateTimeOffset() throws Exception {
+        String xml = "2012-06-30T23:59:60.123456789Z";
+        assertThat(
+            XMLAdapter.parseDateTimeOffset(xml),
+            is(ZonalDateTime.parse(xml, Iso8601Format.EXTENDED_DATE_TIME_OFFSET)));
+
+        xml = "2012-06-30T23:59:59.123456789Z";
+        ZonalDateTime zdt = XMLAdapter.parseDateTimeOffset(xml);
+        StringBuilder sb = new StringBuilder();
+        XMLAdapter.printDateTimeOffset(zdt, sb);
+        assertThat(sb.toString(), is(xml));
+
+        xml = "2014-02-28T14:45:30-05:30";
+        zdt = XMLAdapter.parseDateTimeOffset(xml);
+        assertThat(zdt.getOffset(), is(ZonalOffset.ofTotalSeconds(-19800)));
+        sb.setLength(0);
+        XMLAdapter.printDateTimeOffset(zdt, sb);
+        assertThat(sb.toString(), is(xml));
+    }
+
+    @Test
+    public void lexicalDuration() throws Exception {
+        Duration<IsoUnit> expected =
+            Duration.ofNegative().years(1).months(1).days(10).hours(3).seconds(5).nanos(123456789).build();
+        assertThat(XMLAdapter.parseDuration("-P1Y1M10DT3H5.123456789S"), is(expected));
+        assertThat(XMLAdapter.parseDuration("PT0S"), is(Duration.ofZero()));
+        assertThat(XMLAdapter.parseDuration("-P0D"), is(Duration.ofZero()));
+        StringBuilder sb = new StringBuilder();
+        XMLAdapter.printDuration(expected, sb);
+        assertThat(sb.toString(), is("-P1Y1M10DT3H5.123456789S"));
+    }
+
+    @Test
+    public void lexicalErrors() {
+        String[] invalid = {
+            "2014-2-28", "014-02-28", "02014-02-28", "2014-02-30", "2014-02-28T", "2014-02-28+15:00",
+            "24:00:01", "12:00", "12:00:00.", "P", "PT", "P1D2Y", "P1H", "PT1D", "P1.5Y", "12:00:00+01:00x"
+        };
+        for (String text : invalid) {
+            try {
+                if (text.startsWith("P")) {
+                    XMLAdapter.parseDuration(text);
+                } else if (text.indexOf(':') == 2) {
+                    XMLAdapter.parseTime(text);
+                } else {
+                    XMLAdapter.parseDate(text);
+                }
+                throw new AssertionError("Expected parse error: " + text);
+            } catch (ParseException pe) {
+                // ok
+            }
+        }
+        try {
+            XMLAdapter.parseDateTimeOffset("2014-02-28T14:45:30");
+            throw new AssertionError("Missing offset not detected.");
+        } catch (ParseException pe) {
+            // ok
+        }
+    }
+
 }